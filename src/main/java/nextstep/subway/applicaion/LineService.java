@@ -9,8 +9,15 @@ import nextstep.subway.handler.exception.StationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static nextstep.subway.handler.exception.ErrorCode.LINE_NOT_FOUND_BY_ID;
 import static nextstep.subway.handler.exception.ErrorCode.STATION_NOT_FOUND_BY_ID;
@@ -19,11 +26,16 @@ import static nextstep.subway.handler.exception.ErrorCode.STATION_NOT_FOUND_BY_I
 @Transactional
 public class LineService {
     private LineRepository lineRepository;
+    private SectionRepository sectionRepository;
     private StationRepository stationRepository;
+    private StationRegistry stationRegistry;
 
-    public LineService(LineRepository lineRepository, StationRepository stationRepository) {
+    public LineService(LineRepository lineRepository, SectionRepository sectionRepository,
+                       StationRepository stationRepository, StationRegistry stationRegistry) {
         this.lineRepository = lineRepository;
+        this.sectionRepository = sectionRepository;
         this.stationRepository = stationRepository;
+        this.stationRegistry = stationRegistry;
     }
 
     /* 노선 생성을 처리한다. */
@@ -47,7 +59,7 @@ public class LineService {
     }
 
     private List<LineResponse> getAllLines() {
-        return lineRepository.findAll().stream()
+        return lineRepository.findAllWithStations().stream()
                 .map(LineResponse::of)
                 .collect(Collectors.toList());
     }
@@ -55,7 +67,9 @@ public class LineService {
     /* 단일 노선의 정보를 반환한다. */
     @Transactional(readOnly = true)
     public LineResponse findById(Long id) {
-        return LineResponse.of(findLineById(id));
+        Line line = lineRepository.findWithStationsById(id)
+                .orElseThrow(() -> new LineException(LINE_NOT_FOUND_BY_ID));
+        return LineResponse.of(line);
     }
 
     /* 노선에 정보 변경을 처리한다. */
@@ -72,11 +86,39 @@ public class LineService {
 
     /* 노선에 구간 추가를 처리한다. */
     public void addSection(Long lineId, SectionRequest sectionRequest) {
-        Station upStation = findStationById(sectionRequest.getUpStationId());
-        Station downStation = findStationById(sectionRequest.getDownStationId());
+        Station upStation = getStationReference(sectionRequest.getUpStationId());
+        Station downStation = getStationReference(sectionRequest.getDownStationId());
         Line line = findLineById(lineId);
+        line.focusOn(findSectionsNear(lineId, Arrays.asList(upStation.getId(), downStation.getId())));
 
         line.addSection(createSection(line, upStation, downStation, sectionRequest.getDistance()));
+        deleteRemovedSections(line);
+    }
+
+    /* 노선에 여러 구간을 순서대로 추가한다, 한 구간이라도 추가할 수 없으면 모두 추가하지 않는다. */
+    public void addSections(Long lineId, List<SectionRequest> sectionRequests) {
+        Map<Long, Station> stations = findStationsOf(sectionRequests);
+        // 노선의 구간을 한 번만 읽고, 모든 구간을 같은 구간 목록 위에서 검증하고 추가한다.
+        Line line = lineRepository.findWithStationsById(lineId)
+                .orElseThrow(() -> new LineException(LINE_NOT_FOUND_BY_ID));
+
+        for (SectionRequest sectionRequest : sectionRequests) {
+            line.addSection(createSection(line, stations.get(sectionRequest.getUpStationId()),
+                    stations.get(sectionRequest.getDownStationId()), sectionRequest.getDistance()));
+        }
+    }
+
+    private Map<Long, Station> findStationsOf(List<SectionRequest> sectionRequests) {
+        Set<Long> stationIds = sectionRequests.stream()
+                .flatMap(sectionRequest -> Stream.of(sectionRequest.getUpStationId(), sectionRequest.getDownStationId()))
+                .collect(Collectors.toSet());
+
+        Map<Long, Station> stations = stationRepository.findAllById(stationIds).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != stationIds.size()) {
+            throw new StationException(STATION_NOT_FOUND_BY_ID);
+        }
+        return stations;
     }
 
     private Section createSection(Line line, Station upStation, Station downStation, int distance) {
@@ -87,8 +129,32 @@ public class LineService {
     public void deleteSection(Long lineId, Long stationId) {
         Line line = findLineById(lineId);
         Station station = findStationById(stationId);
+        line.focusOn(findSectionsNear(lineId, Collections.singletonList(stationId)));
 
         line.removeSectionByStation(station);
+        deleteRemovedSections(line);
+    }
+
+    /*
+     * 주어진 역을 상행역이나 하행역으로 갖는 구간과, 그 구간들 바로 다음 구간을 색인으로 읽는다.
+     * 역이 노선에 있는지, 끼울 자리가 어디인지는 이 구간들만으로 판단할 수 있다.
+     */
+    private List<Section> findSectionsNear(Long lineId, List<Long> stationIds) {
+        List<Section> nearSections = new ArrayList<>(sectionRepository.findAllByLineIdAndUpStationIdIn(lineId, stationIds));
+        nearSections.addAll(sectionRepository.findAllByLineIdAndDownStationIdIn(lineId, stationIds));
+
+        Set<Long> nextUpStationIds = nearSections.stream()
+                .map(section -> section.getDownStation().getId())
+                .filter(id -> !stationIds.contains(id))
+                .collect(Collectors.toSet());
+        if (!nextUpStationIds.isEmpty()) {
+            nearSections.addAll(sectionRepository.findAllByLineIdAndUpStationIdIn(lineId, nextUpStationIds));
+        }
+        return nearSections;
+    }
+
+    private void deleteRemovedSections(Line line) {
+        sectionRepository.deleteAll(line.getSections().getRemovedSections());
     }
 
     private Line findLineById(Long id) {
@@ -96,6 +162,14 @@ public class LineService {
                 .orElseThrow(() -> new LineException(LINE_NOT_FOUND_BY_ID));
     }
 
+    // 역이 있는지는 등록부에서 확인하고, 구간에 연결할 엔티티는 조회 없이 참조만 만든다.
+    private Station getStationReference(Long stationId) {
+        if (!stationRegistry.contains(stationId)) {
+            throw new StationException(STATION_NOT_FOUND_BY_ID);
+        }
+        return stationRepository.getById(stationId);
+    }
+
     private Station findStationById(Long stationId) {
         return stationRepository.findById(stationId)
                 .orElseThrow(() -> new StationException(STATION_NOT_FOUND_BY_ID));
@@ -0,0 +1,110 @@
+package nextstep.subway.applicaion;
+
+import java.util.Arrays;
+
+/*
+ * long 키를 박싱하지 않고 배열에 그대로 두는 해시 맵 (open addressing, linear probing)
+ * 값이 null 인 칸을 빈 칸으로 보므로 null 값은 넣을 수 없다. 동시 접근은 사용하는 쪽에서 막는다.
+ */
+class LongKeyMap<V> {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        for (int slot = slotOf(key, keys.length); values[slot] != null; slot = next(slot)) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    void put(long key, V value) {
+        if (size + 1 > keys.length * MAX_LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        int slot = slotOf(key, keys.length);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = next(slot);
+        }
+        if (values[slot] == null) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /* 지운 칸 뒤에 이어진 원소를 제자리에 가깝게 당겨, 찾는 도중에 빈 칸을 만나 멈추는 일이 없게 한다. */
+    void remove(long key) {
+        int slot = slotOf(key, keys.length);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = next(slot);
+        }
+        if (values[slot] == null) {
+            return;
+        }
+        size--;
+
+        int hole = slot;
+        for (int current = next(hole); values[current] != null; current = next(current)) {
+            int home = slotOf(keys[current], keys.length);
+            if (isCyclicallyBetween(hole, home, current)) {
+                continue;
+            }
+            keys[hole] = keys[current];
+            values[hole] = values[current];
+            hole = current;
+        }
+        values[hole] = null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    // home 이 (hole, current] 안에 있으면 current 의 원소는 hole 로 옮기면 안 된다.
+    private static boolean isCyclicallyBetween(int hole, int home, int current) {
+        if (hole <= current) {
+            return hole < home && home <= current;
+        }
+        return hole < home || home <= current;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            int slot = slotOf(oldKeys[i], capacity);
+            while (values[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private int next(int slot) {
+        return (slot + 1) & (keys.length - 1);
+    }
+
+    // 연속된 id 가 이웃한 칸에 몰리지 않도록 섞는다.
+    private static int slotOf(long key, int capacity) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+    }
+}
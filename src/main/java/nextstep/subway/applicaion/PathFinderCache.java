@@ -0,0 +1,219 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.NetworkChangedEvent;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.path.SearchMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * 모든 요청이 공유하는 경로 탐색 그래프를 보관한다.
+ * 그래프는 만들어진 뒤 바뀌지 않는 스냅샷으로, 조회하는 쪽은 잠금 없이 현재 스냅샷을 읽기만 한다.
+ * 노선도 변경이 커밋되면 버전이 올라가고, 일정 시간 동안 모인 변경은 백그라운드에서 한 번에 반영되어 교체된다.
+ */
+@Component
+public class PathFinderCache {
+    private static final Logger log = LoggerFactory.getLogger(PathFinderCache.class);
+    public static final long UNSHARED = -1;
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+
+    private final SubwayGraphLoader subwayGraphLoader;
+    private final TransactionTemplate transactionTemplate;
+    private final long rebuildDelayMillis;
+    private final SearchMode searchMode;
+    private final long allPairsMaxBytes;
+    private final long treeCacheMaxBytes;
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(PathFinderCache::createRebuilderThread);
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private CompletableFuture<Void> pendingRebuild;
+    // 재생성 스레드에서만 읽고 쓴다.
+    private long retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+
+    public PathFinderCache(SubwayGraphLoader subwayGraphLoader, PlatformTransactionManager transactionManager,
+                           @Value("${subway.path.rebuild-delay-millis:200}") long rebuildDelayMillis,
+                           @Value("${subway.path.search-mode:ALT}") SearchMode searchMode,
+                           @Value("${subway.path.all-pairs.enabled:false}") boolean allPairsEnabled,
+                           @Value("${subway.path.all-pairs.max-bytes:67108864}") long allPairsMaxBytes,
+                           @Value("${subway.path.tree-cache.max-bytes:16777216}") long treeCacheMaxBytes) {
+        this.subwayGraphLoader = subwayGraphLoader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildDelayMillis = rebuildDelayMillis;
+        this.searchMode = searchMode;
+        this.allPairsMaxBytes = allPairsEnabled ? allPairsMaxBytes : PathFinder.ALL_PAIRS_DISABLED;
+        this.treeCacheMaxBytes = treeCacheMaxBytes;
+    }
+
+    @Transactional(readOnly = true)
+    public PathFinder get() {
+        // 커밋되지 않은 변경이 있는 트랜잭션은 자신의 변경이 반영된 그래프로 탐색하되, 공유하지 않는다.
+        if (hasUncommittedChanges()) {
+            return createPathFinder();
+        }
+
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = publish(version.get(), createPathFinder());
+        }
+        return current.getPathFinder();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /* 다른 요청과 같은 그래프를 보게 되는 경우의 현재 버전, 커밋되지 않은 변경이 있는 트랜잭션에서는 UNSHARED 이다. */
+    public long sharedVersion() {
+        if (hasUncommittedChanges()) {
+            return UNSHARED;
+        }
+        return version.get();
+    }
+
+    /* pathFinder 가 공유 스냅샷이고, 그 스냅샷에 주어진 버전까지의 변경이 모두 반영되어 있는지 */
+    public boolean isCurrent(PathFinder pathFinder, long version) {
+        Snapshot current = snapshot.get();
+        return version != UNSHARED && current != null
+                && current.getPathFinder() == pathFinder && current.version == version;
+    }
+
+    @EventListener
+    public void handleNetworkChanged(NetworkChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestRebuild();
+            return;
+        }
+
+        if (hasUncommittedChanges()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PathFinderCache.this);
+                if (status == STATUS_COMMITTED) {
+                    requestRebuild();
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private boolean hasUncommittedChanges() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    /*
+     * 대기 중인 재생성이 없을 때만 새로 예약하므로, 예약된 재생성이 실행되기 전까지 커밋된 변경은 모두 한 번에 반영된다.
+     * 지연 시간이 0이면 변경한 쪽이 자신의 변경이 반영될 때까지 기다린다.
+     */
+    private void requestRebuild() {
+        CompletableFuture<Void> rebuilt;
+        synchronized (this) {
+            version.incrementAndGet();
+            rebuilt = scheduleRebuild(rebuildDelayMillis);
+        }
+
+        if (rebuildDelayMillis == 0) {
+            try {
+                rebuilt.join();
+            } catch (CompletionException e) {
+                // 변경은 이미 커밋되었고, 실패한 재생성은 기록한 뒤 다시 시도하므로 변경한 쪽을 실패시키지 않는다.
+            }
+        }
+    }
+
+    private synchronized CompletableFuture<Void> scheduleRebuild(long delayMillis) {
+        if (pendingRebuild == null) {
+            pendingRebuild = new CompletableFuture<>();
+            rebuilder.schedule(this::rebuild, delayMillis, TimeUnit.MILLISECONDS);
+        }
+        return pendingRebuild;
+    }
+
+    private void rebuild() {
+        CompletableFuture<Void> rebuilt;
+        long targetVersion;
+        synchronized (this) {
+            // 이 시점 이후의 변경은 다음 재생성으로 넘긴다.
+            rebuilt = pendingRebuild;
+            pendingRebuild = null;
+            targetVersion = version.get();
+        }
+
+        try {
+            publish(targetVersion, transactionTemplate.execute(status -> createPathFinder()));
+            retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+            rebuilt.complete(null);
+        } catch (Throwable e) {
+            // 기다리는 쪽이 멈추지 않도록 먼저 끝내고, 이전 스냅샷을 계속 쓰지 않도록 간격을 늘려 가며 다시 만든다.
+            rebuilt.completeExceptionally(e);
+            scheduleRebuild(retryDelayMillis);
+            log.error("경로 탐색 그래프 버전 {} 생성 실패, {}ms 뒤에 다시 시도한다.", targetVersion, retryDelayMillis, e);
+            retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+
+    private Snapshot publish(long version, PathFinder pathFinder) {
+        log.info("경로 탐색 그래프 버전 {} 생성: {}", version, pathFinder.summary());
+        Snapshot candidate = new Snapshot(version, pathFinder);
+        return snapshot.accumulateAndGet(candidate, (current, next) -> current == null || current.isOlderThan(next) ? next : current);
+    }
+
+    private PathFinder createPathFinder() {
+        return new PathFinder(subwayGraphLoader.load(), searchMode, allPairsMaxBytes, treeCacheMaxBytes);
+    }
+
+    private static Thread createRebuilderThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "path-finder-rebuilder");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final PathFinder pathFinder;
+
+        private Snapshot(long version, PathFinder pathFinder) {
+            this.version = version;
+            this.pathFinder = pathFinder;
+        }
+
+        private boolean isOlderThan(Snapshot other) {
+            return version < other.version;
+        }
+
+        private PathFinder getPathFinder() {
+            return pathFinder;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package nextstep.subway.applicaion;
+
+import java.util.Objects;
+
+/* 노선도 버전과 출발역, 도착역으로 같은 경로 탐색 요청을 구분한다. */
+class PathKey {
+    private final long version;
+    private final Long source;
+    private final Long target;
+
+    private PathKey(long version, Long source, Long target) {
+        this.version = version;
+        this.source = source;
+        this.target = target;
+    }
+
+    static PathKey of(long version, Long source, Long target) {
+        return new PathKey(version, source, target);
+    }
+
+    boolean isOlderThan(long version) {
+        return this.version < version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PathKey pathKey = (PathKey) o;
+        return version == pathKey.version && Objects.equals(source, pathKey.source) && Objects.equals(target, pathKey.target);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, source, target);
+    }
+}
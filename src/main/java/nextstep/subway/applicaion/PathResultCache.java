@@ -0,0 +1,205 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 경로 탐색 응답을 JSON 바이트로 보관한다.
+ * 키에 노선도 버전이 들어가므로, 버전이 오르면 이전 버전의 응답은 더 이상 쓰이지 않고 한 번에 비운다.
+ * 보관한 바이트 수가 maxBytes 를 넘으면 가장 오래 쓰이지 않은 응답부터 내보낸다.
+ *
+ * 조회는 잠금 없이 처리한다. 응답마다 마지막으로 쓰인 시각을 저장 횟수로 적어 두므로,
+ * 두 저장 사이의 조회끼리는 순서를 가리지 않는 근사 LRU 이다.
+ * 보관한 응답을 돌려준 수와 찾지 못한 수는 /actuator/metrics/subway.path.result-cache.requests 로 내보낸다.
+ */
+@Component
+public class PathResultCache implements MeterBinder {
+    private static final String REQUESTS_METRIC = "subway.path.result-cache.requests";
+    // 키와 엔트리 객체가 차지하는 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    // 넘칠 때마다 내보내지 않도록, 한 번 내보낼 때 이 비율까지 줄인다.
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+
+    private final long maxBytes;
+    private final Map<PathKey, Entry> results = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PathResultCache(@Value("${subway.path.result-cache.max-bytes:8388608}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /* 보관 중인 응답, 없으면 null 이다. */
+    public byte[] get(long version, Long source, Long target) {
+        invalidateBefore(version);
+        Entry entry = results.get(PathKey.of(version, source, target));
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entry.touch(clock.get() + 1);
+        return entry.result;
+    }
+
+    public void put(long version, Long source, Long target, byte[] result) {
+        invalidateBefore(version);
+        if (version < this.version.get() || sizeOf(result) > maxBytes) {
+            return;
+        }
+
+        PathKey key = PathKey.of(version, source, target);
+        Entry entry = new Entry(result, clock.incrementAndGet());
+        Entry previous = results.put(key, entry);
+        bytes.addAndGet(entry.size() - (previous == null ? 0 : previous.size()));
+
+        // 확인한 뒤 넣기 전에 다른 스레드가 버전을 올리고 비웠다면, 아무도 찾지 않을 응답이므로 직접 지운다.
+        if (key.isOlderThan(this.version.get()) && results.remove(key, entry)) {
+            bytes.addAndGet(-entry.size());
+            return;
+        }
+
+        if (bytes.get() > maxBytes) {
+            evict();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(REQUESTS_METRIC, hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("보관한 응답을 돌려준 수")
+                .register(registry);
+        FunctionCounter.builder(REQUESTS_METRIC, misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("보관한 응답이 없어 탐색한 수")
+                .register(registry);
+        Gauge.builder("subway.path.result-cache.size", this, PathResultCache::size)
+                .description("보관 중인 응답 수")
+                .register(registry);
+        Gauge.builder("subway.path.result-cache.bytes", this, PathResultCache::bytes)
+                .description("보관 중인 응답의 대략적인 바이트 수")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public long bytes() {
+        return bytes.get();
+    }
+
+    // 버전을 올린 한 스레드만 이전 버전의 응답을 지운다.
+    private void invalidateBefore(long version) {
+        long current = this.version.get();
+        while (version > current) {
+            if (this.version.compareAndSet(current, version)) {
+                results.keySet().forEach(key -> {
+                    if (key.isOlderThan(version)) {
+                        remove(key);
+                    }
+                });
+                return;
+            }
+            current = this.version.get();
+        }
+    }
+
+    // 한 스레드만 내보내고, 그동안 다른 스레드는 기다리지 않고 넘어간다.
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            // 정렬하는 동안 조회로 시각이 바뀌지 않도록 먼저 옮겨 적는다.
+            List<Candidate> candidates = new ArrayList<>(results.size());
+            results.forEach((key, entry) -> candidates.add(new Candidate(key, entry)));
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastUsed));
+
+            long targetBytes = (long) (maxBytes * EVICTION_TARGET_RATIO);
+            for (Candidate eldest : candidates) {
+                if (bytes.get() <= targetBytes) {
+                    break;
+                }
+                // 그사이 같은 키로 새로 저장된 응답은 지우지 않는다.
+                if (results.remove(eldest.key, eldest.entry)) {
+                    bytes.addAndGet(-eldest.entry.size());
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void remove(PathKey key) {
+        Entry removed = results.remove(key);
+        if (removed != null) {
+            bytes.addAndGet(-removed.size());
+        }
+    }
+
+    private static long sizeOf(byte[] result) {
+        return (long) result.length + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private static class Entry {
+        private final byte[] result;
+        private volatile long lastUsed;
+
+        private Entry(byte[] result, long lastUsed) {
+            this.result = result;
+            this.lastUsed = lastUsed;
+        }
+
+        // 자주 쓰이는 응답이 매번 같은 값을 다시 쓰지 않도록, 시각이 바뀔 때만 적는다.
+        private void touch(long now) {
+            if (lastUsed < now) {
+                lastUsed = now;
+            }
+        }
+
+        private long size() {
+            return sizeOf(result);
+        }
+    }
+
+    private static class Candidate {
+        private final PathKey key;
+        private final Entry entry;
+        private final long lastUsed;
+
+        private Candidate(PathKey key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastUsed = entry.lastUsed;
+        }
+    }
+}
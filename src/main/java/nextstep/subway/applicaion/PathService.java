@@ -1,39 +1,229 @@
 package nextstep.subway.applicaion;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.applicaion.dto.ExploreBatchResponse;
+import nextstep.subway.applicaion.dto.ExploreMatrixRequest;
+import nextstep.subway.applicaion.dto.ExploreMatrixResponse;
+import nextstep.subway.applicaion.dto.ExploreRequest;
 import nextstep.subway.applicaion.dto.ExploreResponse;
-import nextstep.subway.domain.*;
+import nextstep.subway.applicaion.dto.ExploreTreeResponse;
+import nextstep.subway.applicaion.dto.ExploredResult;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Station;
+import nextstep.subway.handler.exception.ExploreException;
 import nextstep.subway.handler.exception.StationException;
+import nextstep.subway.handler.validator.ExploreValidator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static nextstep.subway.handler.exception.ErrorCode.STATION_NOT_FOUND_BY_ID;
+import static nextstep.subway.handler.exception.ErrorCode.TWO_STATIONS_NOT_LINKED;
 
 @Service
+@Transactional(readOnly = true)
 public class PathService {
-    private final LineRepository lineRepository;
-    private final StationRepository stationRepository;
+    private final StationRegistry stationRegistry;
+    private final PathFinderCache pathFinderCache;
+    private final PathResultCache pathResultCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SingleFlight<PathKey, byte[]> inFlightExplores;
 
-    public PathService(LineRepository lineRepository, StationRepository stationRepository) {
-        this.lineRepository = lineRepository;
-        this.stationRepository = stationRepository;
+    public PathService(StationRegistry stationRegistry, PathFinderCache pathFinderCache,
+                       PathResultCache pathResultCache, SingleFlight<PathKey, byte[]> inFlightExplores,
+                       ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.stationRegistry = stationRegistry;
+        this.pathFinderCache = pathFinderCache;
+        this.pathResultCache = pathResultCache;
+        this.inFlightExplores = inFlightExplores;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     public ExploreResponse explore(Long source, Long target) {
         Station sourceStation = findStationById(source);
         Station targetStation = findStationById(target);
 
-        PathFinder pathFinder = new PathFinder(findAllLines());
+        PathFinder pathFinder = pathFinderCache.get();
 
         return ExploreResponse.from(pathFinder.explore(sourceStation, targetStation));
     }
 
-    private List<Line> findAllLines() {
-        return lineRepository.findAll();
+    /*
+     * 응답을 JSON 바이트로 만들어 노선도 버전별로 보관하고, 같은 버전의 같은 요청은 탐색 없이 보관한 바이트를 돌려준다.
+     * 보관된 응답이 없는 같은 요청이 동시에 들어오면 한 요청만 역을 조회하고 탐색하며, 나머지는 그 결과를 함께 받는다.
+     * 트랜잭션 안의 변경이 반영된 그래프로 탐색하는 요청은 다른 요청과 결과를 나누지 않는다.
+     *
+     * 보관한 응답을 돌려주거나 먼저 들어온 요청을 기다리는 동안에는 커넥션을 잡지 않도록 트랜잭션을 열지 않고,
+     * 실제로 탐색하는 요청만 읽기 전용 트랜잭션을 연다.
+     * 호출한 쪽의 트랜잭션이 있으면 그대로 참여해야 커밋되지 않은 변경이 있는지 알 수 있으므로 NOT_SUPPORTED 가 아닌 SUPPORTS 이다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public byte[] exploreAsJson(Long source, Long target) {
+        long version = pathFinderCache.sharedVersion();
+        if (version == PathFinderCache.UNSHARED) {
+            return toJson(explore(source, target));
+        }
+
+        byte[] cached = pathResultCache.get(version, source, target);
+        if (cached != null) {
+            return cached;
+        }
+        return inFlightExplores.execute(PathKey.of(version, source, target),
+                () -> readOnlyTransaction.execute(status -> exploreAndCache(version, source, target)));
+    }
+
+    // 아직 이전 버전의 그래프로 탐색한 응답은 보관하지 않는다.
+    private byte[] exploreAndCache(long version, Long source, Long target) {
+        Station sourceStation = findStationById(source);
+        Station targetStation = findStationById(target);
+        PathFinder pathFinder = pathFinderCache.get();
+
+        byte[] result = toJson(ExploreResponse.from(pathFinder.explore(sourceStation, targetStation)));
+        if (pathFinderCache.isCurrent(pathFinder, version)) {
+            pathResultCache.put(version, source, target, result);
+        }
+        return result;
+    }
+
+    private byte[] toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ExploreTreeResponse exploreFrom(Long source) {
+        Station sourceStation = findStationById(source);
+
+        PathFinder pathFinder = pathFinderCache.get();
+
+        return ExploreTreeResponse.from(pathFinder.exploreFrom(sourceStation));
+    }
+
+    public ExploreTreeResponse exploreWithin(Long source, int maxDistance) {
+        ExploreValidator.validateMaxDistance(maxDistance);
+        Station sourceStation = findStationById(source);
+
+        PathFinder pathFinder = pathFinderCache.get();
+
+        return ExploreTreeResponse.from(pathFinder.exploreWithin(sourceStation, maxDistance));
+    }
+
+    /* 출발역과 도착역은 한 번의 조회로 찾고, 거리 표는 요청한 역의 순서를 따른다. */
+    public ExploreMatrixResponse exploreMatrix(ExploreMatrixRequest request) {
+        ExploreValidator.validateMatrixStations(request.getSources());
+        ExploreValidator.validateMatrixStations(request.getTargets());
+        ExploreValidator.validateMatrixSize(request.getSources().size(), request.getTargets().size());
+        Map<Long, Station> stations = findStationsByIds(
+                Stream.concat(request.getSources().stream(), request.getTargets().stream()));
+
+        List<Station> sources = toStations(request.getSources(), stations);
+        List<Station> targets = toStations(request.getTargets(), stations);
+        PathFinder pathFinder = pathFinderCache.get();
+
+        return ExploreMatrixResponse.from(pathFinder.exploreMatrix(sources, targets));
+    }
+
+    /*
+     * 여러 역 쌍을 한 번에 탐색한다. 역은 한 번의 조회로 찾고, 출발역이 같은 쌍끼리 묶어 출발역마다 병렬로 탐색한다.
+     * 실패한 쌍은 요청 전체를 실패시키지 않고 그 자리에 에러를 담으며, 결과는 요청 순서를 따른다.
+     */
+    public List<ExploreBatchResponse> exploreAll(List<ExploreRequest> requests) {
+        ExploreValidator.validateExplorePairCount(requests.size());
+        Map<Long, Station> stations = findStationsByIds(requests.stream()
+                .flatMap(request -> Stream.of(request.getSource(), request.getTarget())));
+        PathFinder pathFinder = pathFinderCache.get();
+
+        ExploreBatchResponse[] responses = new ExploreBatchResponse[requests.size()];
+        groupBySource(requests).values().parallelStream()
+                .forEach(positions -> exploreFromSource(pathFinder, stations, requests, positions, responses));
+
+        return Arrays.asList(responses);
+    }
+
+    private void exploreFromSource(PathFinder pathFinder, Map<Long, Station> stations, List<ExploreRequest> requests,
+                                   List<Integer> positions, ExploreBatchResponse[] responses) {
+        List<Integer> explorablePositions = new ArrayList<>(positions.size());
+        List<Station> targets = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            ExploreRequest request = requests.get(position);
+            Station source = stations.get(request.getSource());
+            Station target = stations.get(request.getTarget());
+            try {
+                validateExplorable(source, target);
+                explorablePositions.add(position);
+                targets.add(target);
+            } catch (StationException e) {
+                responses[position] = ExploreBatchResponse.of(request, e.getErrorCode());
+            } catch (ExploreException e) {
+                responses[position] = ExploreBatchResponse.of(request, e.getErrorCode());
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Station source = stations.get(requests.get(explorablePositions.get(0)).getSource());
+        List<ExploredResult> results = pathFinder.exploreAll(source, targets);
+        for (int i = 0; i < results.size(); i++) {
+            int position = explorablePositions.get(i);
+            ExploredResult result = results.get(i);
+            responses[position] = result == PathFinder.NOT_LINKED
+                    ? ExploreBatchResponse.of(requests.get(position), TWO_STATIONS_NOT_LINKED)
+                    : ExploreBatchResponse.of(requests.get(position), result);
+        }
+    }
+
+    private void validateExplorable(Station source, Station target) {
+        if (source == null || target == null) {
+            throw new StationException(STATION_NOT_FOUND_BY_ID);
+        }
+        ExploreValidator.validateStationsIsSame(source, target);
+    }
+
+    // 출발역 id 가 없는 요청도 한 묶음으로 모아 에러로 채운다.
+    private Map<Long, List<Integer>> groupBySource(List<ExploreRequest> requests) {
+        Map<Long, List<Integer>> positionsBySource = new LinkedHashMap<>();
+        for (int position = 0; position < requests.size(); position++) {
+            positionsBySource.computeIfAbsent(requests.get(position).getSource(), source -> new ArrayList<>())
+                    .add(position);
+        }
+        return positionsBySource;
+    }
+
+    private Map<Long, Station> findStationsByIds(Stream<Long> ids) {
+        return stationRegistry.findAll(ids
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
+
+    private List<Station> toStations(List<Long> stationIds, Map<Long, Station> stations) {
+        return stationIds.stream()
+                .map(stationId -> Optional.ofNullable(stations.get(stationId))
+                        .orElseThrow(() -> new StationException(STATION_NOT_FOUND_BY_ID)))
+                .collect(Collectors.toList());
     }
 
     private Station findStationById(Long stationId) {
-        return stationRepository.findById(stationId)
+        return stationRegistry.find(stationId)
                 .orElseThrow(() -> new StationException(STATION_NOT_FOUND_BY_ID));
     }
 }
@@ -0,0 +1,58 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/*
+ * 같은 키의 작업이 동시에 들어오면 먼저 들어온 요청만 실행하고, 나머지는 그 결과를 기다려 함께 받는다.
+ * 결과는 보관하지 않으므로 작업이 끝난 뒤에 들어온 요청은 다시 실행한다. 작업이 실패하면 기다리던 요청도 같은 예외를 받는다.
+ */
+@Component
+class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = flights.putIfAbsent(key, flight);
+        if (leader != null) {
+            return await(leader);
+        }
+
+        try {
+            V result = work.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    int inFlight() {
+        return flights.size();
+    }
+
+    /* 테스트에서 먼저 들어온 요청을 기다리기 시작한 요청 수를 확인한다. */
+    int waiting(K key) {
+        CompletableFuture<V> flight = flights.get(key);
+        return flight == null ? 0 : flight.getNumberOfDependents();
+    }
+}
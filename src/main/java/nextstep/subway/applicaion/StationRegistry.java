@@ -0,0 +1,208 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * 역을 id 로 찾는 메모리 등록부, 없는 역만 DB 에서 읽어 채운다. (read-through)
+ * 등록부의 역은 영속성 컨텍스트에 속하지 않으므로 읽기 전용으로만 쓴다.
+ * 역의 생성, 삭제는 커밋된 뒤에 반영하고, DB 에서 읽은 역은 커밋된 것이 확실한 읽기 전용 트랜잭션에서만 채운다.
+ * 등록부에서 찾은 수와 DB 를 조회한 수는 /actuator/metrics/subway.station.registry.lookups 로 내보낸다.
+ */
+@Component
+public class StationRegistry implements MeterBinder {
+    private static final String LOOKUPS_METRIC = "subway.station.registry.lookups";
+
+    private final StationRepository stationRepository;
+    private final LongKeyMap<Station> stations = new LongKeyMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 읽는 동안 삭제가 커밋되면, 읽은 역을 채우지 않기 위해 삭제마다 올린다.
+    private final AtomicLong removals = new AtomicLong();
+    private final LongAdder savedRoundTrips = new LongAdder();
+    private final LongAdder roundTrips = new LongAdder();
+
+    public StationRegistry(StationRepository stationRepository) {
+        this.stationRepository = stationRepository;
+    }
+
+    public Optional<Station> find(Long stationId) {
+        Station station = get(stationId);
+        if (station != null) {
+            savedRoundTrips.increment();
+            return Optional.of(station);
+        }
+
+        roundTrips.increment();
+        long removalsBeforeLoad = removals.get();
+        Optional<Station> loaded = stationRepository.findById(stationId);
+        loaded.ifPresent(found -> fill(found, removalsBeforeLoad));
+        return loaded;
+    }
+
+    /* 찾은 역만 담으며, 등록부에 없는 역은 한 번의 조회로 읽는다. */
+    public Map<Long, Station> findAll(Collection<Long> stationIds) {
+        Map<Long, Station> found = new HashMap<>(stationIds.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (Long stationId : stationIds) {
+            Station station = get(stationId);
+            if (station == null) {
+                missingIds.add(stationId);
+            } else {
+                found.put(stationId, station);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            savedRoundTrips.increment();
+            return found;
+        }
+
+        roundTrips.increment();
+        long removalsBeforeLoad = removals.get();
+        for (Station station : stationRepository.findAllById(missingIds)) {
+            found.put(station.getId(), station);
+            fill(station, removalsBeforeLoad);
+        }
+        return found;
+    }
+
+    public boolean contains(Long stationId) {
+        return find(stationId).isPresent();
+    }
+
+    /* 역의 생성이 커밋되면 등록한다. */
+    public void register(Station station) {
+        afterCommit(() -> put(station));
+    }
+
+    /* 역의 삭제가 커밋되면 지운다. */
+    public void unregister(Long stationId) {
+        afterCommit(() -> remove(stationId));
+    }
+
+    /* 역 테이블을 비웠을 때처럼 저장된 역이 한꺼번에 사라지면 등록부도 비운다. */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            removals.incrementAndGet();
+            stations.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* 등록부 덕분에 하지 않은 DB 조회 수 */
+    public long savedRoundTrips() {
+        return savedRoundTrips.sum();
+    }
+
+    /* 등록부에 없어 DB 를 조회한 수 */
+    public long roundTrips() {
+        return roundTrips.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(LOOKUPS_METRIC, savedRoundTrips, LongAdder::sum)
+                .tag("result", "hit")
+                .description("역 등록부에서 찾아 DB 조회를 하지 않은 수")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS_METRIC, roundTrips, LongAdder::sum)
+                .tag("result", "miss")
+                .description("역 등록부에 없어 DB 를 조회한 수")
+                .register(registry);
+        Gauge.builder("subway.station.registry.size", this, StationRegistry::size)
+                .description("역 등록부에 담긴 역 수")
+                .register(registry);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return stations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Station get(Long stationId) {
+        if (stationId == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return stations.get(stationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void fill(Station station, long removalsBeforeLoad) {
+        if (!isCommittedRead()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (removals.get() == removalsBeforeLoad) {
+                stations.put(station.getId(), station);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 트랜잭션에서 읽은 역은 아직 커밋되지 않은 것일 수 있다.
+    private static boolean isCommittedRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void put(Station station) {
+        lock.writeLock().lock();
+        try {
+            stations.put(station.getId(), station);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long stationId) {
+        lock.writeLock().lock();
+        try {
+            removals.incrementAndGet();
+            stations.remove(stationId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
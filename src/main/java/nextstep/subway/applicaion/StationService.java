@@ -14,14 +14,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class StationService {
     private StationRepository stationRepository;
+    private StationRegistry stationRegistry;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, StationRegistry stationRegistry) {
         this.stationRepository = stationRepository;
+        this.stationRegistry = stationRegistry;
     }
 
     /* 역 생성을 처리한다. */
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = createStation(stationRequest.getName());
+        stationRegistry.register(station);
         return StationResponse.from(station);
     }
 
@@ -42,5 +45,6 @@ public class StationService {
     /* 역 삭제를 처리한다. */
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        stationRegistry.unregister(id);
     }
 }
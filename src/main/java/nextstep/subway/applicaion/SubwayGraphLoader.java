@@ -0,0 +1,46 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.SectionEdge;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.path.GraphBuilder;
+import nextstep.subway.domain.path.SubwayGraph;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * 구간 테이블을 한 번의 조회로 흘려 읽어 경로 탐색 그래프를 만든다.
+ * 노선, 구간, 역 엔티티를 만들지 않으므로 영속성 컨텍스트에 아무것도 남지 않는다.
+ */
+@Component
+public class SubwayGraphLoader {
+    private final SectionRepository sectionRepository;
+
+    public SubwayGraphLoader(SectionRepository sectionRepository) {
+        this.sectionRepository = sectionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public SubwayGraph load() {
+        GraphBuilder builder = new GraphBuilder();
+        List<SectionEdge> lineEdges = new ArrayList<>();
+        try (Stream<SectionEdge> edges = sectionRepository.streamAllEdges()) {
+            Iterator<SectionEdge> iterator = edges.iterator();
+            while (iterator.hasNext()) {
+                SectionEdge edge = iterator.next();
+                // 구간은 노선별로 순서대로 오므로, 노선이 바뀌면 앞 노선을 넣는다.
+                if (!lineEdges.isEmpty() && !lineEdges.get(0).isOnSameLine(edge)) {
+                    builder.addLineEdges(lineEdges);
+                    lineEdges.clear();
+                }
+                lineEdges.add(edge);
+            }
+        }
+        builder.addLineEdges(lineEdges);
+        return builder.build();
+    }
+}
@@ -0,0 +1,43 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.handler.exception.ErrorCode;
+import nextstep.subway.handler.exception.ErrorResponse;
+
+/* 일괄 탐색의 한 쌍에 대한 결과, 경로와 에러 중 하나만 담고 나머지는 null 이다. */
+public class ExploreBatchResponse {
+    private Long source;
+    private Long target;
+    private ExploreResponse path;
+    private ErrorResponse error;
+
+    private ExploreBatchResponse(Long source, Long target, ExploreResponse path, ErrorResponse error) {
+        this.source = source;
+        this.target = target;
+        this.path = path;
+        this.error = error;
+    }
+
+    public static ExploreBatchResponse of(ExploreRequest request, ExploredResult exploredResult) {
+        return new ExploreBatchResponse(request.getSource(), request.getTarget(), ExploreResponse.from(exploredResult), null);
+    }
+
+    public static ExploreBatchResponse of(ExploreRequest request, ErrorCode errorCode) {
+        return new ExploreBatchResponse(request.getSource(), request.getTarget(), null, ErrorResponse.from(errorCode));
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public ExploreResponse getPath() {
+        return path;
+    }
+
+    public ErrorResponse getError() {
+        return error;
+    }
+}
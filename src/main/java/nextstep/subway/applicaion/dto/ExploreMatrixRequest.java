@@ -0,0 +1,24 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class ExploreMatrixRequest {
+    private List<Long> sources;
+    private List<Long> targets;
+
+    public ExploreMatrixRequest() {
+    }
+
+    public ExploreMatrixRequest(List<Long> sources, List<Long> targets) {
+        this.sources = sources;
+        this.targets = targets;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+}
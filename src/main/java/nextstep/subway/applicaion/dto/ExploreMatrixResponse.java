@@ -0,0 +1,42 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Station;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/* 출발역 i 에서 도착역 j 까지의 거리는 distances[i * targets.size() + j] 이고, 이어지지 않으면 -1 이다. */
+public class ExploreMatrixResponse {
+    private List<Long> sources;
+    private List<Long> targets;
+    private int[] distances;
+
+    private ExploreMatrixResponse(List<Long> sources, List<Long> targets, int[] distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public static ExploreMatrixResponse from(ExploredMatrix exploredMatrix) {
+        return new ExploreMatrixResponse(toIds(exploredMatrix.getSources()), toIds(exploredMatrix.getTargets()),
+                exploredMatrix.getDistances());
+    }
+
+    private static List<Long> toIds(List<Station> stations) {
+        return stations.stream()
+                .map(Station::getId)
+                .collect(Collectors.toList());
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+}
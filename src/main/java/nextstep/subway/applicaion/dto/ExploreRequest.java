@@ -0,0 +1,22 @@
+package nextstep.subway.applicaion.dto;
+
+public class ExploreRequest {
+    private Long source;
+    private Long target;
+
+    public ExploreRequest() {
+    }
+
+    public ExploreRequest(Long source, Long target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+}
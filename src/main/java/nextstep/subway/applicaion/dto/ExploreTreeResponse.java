@@ -0,0 +1,65 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ExploreTreeResponse {
+    private Long source;
+    private List<Node> stations;
+
+    private ExploreTreeResponse(Long source, List<Node> stations) {
+        this.source = source;
+        this.stations = stations;
+    }
+
+    public static ExploreTreeResponse from(ExploredTree exploredTree) {
+        List<Node> stations = exploredTree.getNodes().stream()
+                .map(Node::from)
+                .collect(Collectors.toList());
+
+        return new ExploreTreeResponse(exploredTree.getSource().getId(), stations);
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public List<Node> getStations() {
+        return stations;
+    }
+
+    public static class Node {
+        private Long id;
+        private String name;
+        private int distance;
+        private Long previousId;
+
+        private Node(Long id, String name, int distance, Long previousId) {
+            this.id = id;
+            this.name = name;
+            this.distance = distance;
+            this.previousId = previousId;
+        }
+
+        private static Node from(ExploredTree.Node node) {
+            return new Node(node.getStation().getId(), node.getStation().getName(), node.getDistance(),
+                    node.getPrevious().getId());
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public Long getPreviousId() {
+            return previousId;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Station;
+
+import java.util.List;
+
+public class ExploredMatrix {
+    private List<Station> sources;
+    private List<Station> targets;
+    private int[] distances;
+
+    private ExploredMatrix(List<Station> sources, List<Station> targets, int[] distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public static ExploredMatrix of(List<Station> sources, List<Station> targets, int[] distances) {
+        return new ExploredMatrix(sources, targets, distances);
+    }
+
+    public List<Station> getSources() {
+        return sources;
+    }
+
+    public List<Station> getTargets() {
+        return targets;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+}
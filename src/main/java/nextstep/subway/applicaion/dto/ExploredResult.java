@@ -13,8 +13,8 @@ public class ExploredResult {
         this.distance = distance;
     }
 
-    public static ExploredResult of(List<Station> stations, double distance) {
-        return new ExploredResult(stations, (int)distance);
+    public static ExploredResult of(List<Station> stations, int distance) {
+        return new ExploredResult(stations, distance);
     }
 
     public List<Station> getStations() {
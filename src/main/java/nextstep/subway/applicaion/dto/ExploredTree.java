@@ -0,0 +1,56 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.Station;
+
+import java.util.List;
+
+public class ExploredTree {
+    private Station source;
+    private List<Node> nodes;
+
+    private ExploredTree(Station source, List<Node> nodes) {
+        this.source = source;
+        this.nodes = nodes;
+    }
+
+    public static ExploredTree of(Station source, List<Node> nodes) {
+        return new ExploredTree(source, nodes);
+    }
+
+    public Station getSource() {
+        return source;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    /* 트리의 한 역과 출발역으로부터의 거리, 출발역 쪽 바로 앞 역 */
+    public static class Node {
+        private Station station;
+        private int distance;
+        private Station previous;
+
+        private Node(Station station, int distance, Station previous) {
+            this.station = station;
+            this.distance = distance;
+            this.previous = previous;
+        }
+
+        public static Node of(Station station, int distance, Station previous) {
+            return new Node(station, distance, previous);
+        }
+
+        public Station getStation() {
+            return station;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public Station getPrevious() {
+            return previous;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.domain.path.GraphBuilder;
 import nextstep.subway.handler.validator.SectionValidator;
 import nextstep.subway.handler.validator.StationValidator;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.WeightedMultigraph;
 
 import javax.persistence.*;
+import java.util.Collection;
 import java.util.List;
 
 @Entity
@@ -61,10 +61,12 @@ public class Line extends BaseEntity {
     /* 구간 추가 */
     public void addSection(Section section) {
         if (isUpStation(section.getDownStation())) {
+            section.moveTo(sections.positionBefore(sections.findSectionByUpStation(upStation)));
             this.upStation = section.getUpStation();
         }
 
         if (isDownStation(section.getUpStation())) {
+            section.moveTo(sections.positionAfter(sections.findSectionByDownStation(downStation)));
             this.downStation = section.getDownStation();
         }
 
@@ -81,8 +83,11 @@ public class Line extends BaseEntity {
     private void bothUpStationSame(Section insertedSection) {
         sections.findSameUpDifferentDown(insertedSection)
                 .ifPresent(oldSection -> {
+                    // 기존 구간의 자리를 추가한 구간이 받고, 남은 구간은 그 뒤에 끼운다.
+                    int pushedPosition = sections.positionAfter(oldSection);
+                    insertedSection.moveTo(oldSection.getPosition());
                     pushSection(insertedSection.getDownStation(), oldSection.getDownStation(),
-                            extractDistance(insertedSection, oldSection));
+                            extractDistance(insertedSection, oldSection), pushedPosition);
                     removeSection(oldSection);
                 });
     }
@@ -90,8 +95,10 @@ public class Line extends BaseEntity {
     private void bothDownStationSame(Section insertedSection) {
         sections.findSameDownDifferentUp(insertedSection)
                 .ifPresent(oldSection -> {
+                    // 기존 구간의 자리를 남은 구간이 받고, 추가한 구간은 그 뒤에 끼운다.
+                    insertedSection.moveTo(sections.positionAfter(oldSection));
                     pushSection(oldSection.getUpStation(), insertedSection.getUpStation(),
-                            extractDistance(insertedSection, oldSection));
+                            extractDistance(insertedSection, oldSection), oldSection.getPosition());
                     removeSection(oldSection);
                 });
     }
@@ -100,8 +107,10 @@ public class Line extends BaseEntity {
         return oldSection.getDistance() - insertedSection.getDistance();
     }
 
-    private void pushSection(Station upStation, Station downStation, int newDistance) {
-        sections.add(Section.of(this, upStation, downStation, newDistance));
+    private void pushSection(Station upStation, Station downStation, int newDistance, int position) {
+        Section section = Section.of(this, upStation, downStation, newDistance);
+        section.moveTo(position);
+        sections.add(section);
     }
 
     /* 갖고있는 지하철역 리스트 반환 */
@@ -139,6 +148,11 @@ public class Line extends BaseEntity {
         return sections.findSectionByDownStation(station);
     }
 
+    /* 편집할 역 주변의 구간만으로 노선을 편집한다. */
+    public void focusOn(Collection<Section> nearSections) {
+        sections.focusOn(nearSections);
+    }
+
     public Sections getSections() {
         return sections;
     }
@@ -180,11 +194,13 @@ public class Line extends BaseEntity {
         Station newUpStation = null;
         Station newDownStation = null;
         int newDistance = 0;
+        int newPosition = 0;
 
         for (Section section : sections.findSectionByStation(station)) {
             if (section.hasDownStation(station)) {
                 newUpStation = section.getUpStation();
                 newDistance += section.getDistance();
+                newPosition = section.getPosition();
                 removeSection(section);
             }
             if (section.hasUpStation(station)) {
@@ -194,11 +210,13 @@ public class Line extends BaseEntity {
             }
         }
 
-        pushInitSection(newUpStation, newDownStation, newDistance);
+        pushInitSection(newUpStation, newDownStation, newDistance, newPosition);
     }
 
-    private void pushInitSection(Station upStation, Station downStation, int distance) {
-        sections.add(Section.initialize(this, upStation, downStation, distance));
+    private void pushInitSection(Station upStation, Station downStation, int distance, int position) {
+        Section section = Section.initialize(this, upStation, downStation, distance);
+        section.moveTo(position);
+        sections.add(section);
     }
 
     private void updateUpStation(Section targetSection) {
@@ -213,8 +231,8 @@ public class Line extends BaseEntity {
         sections.remove(targetSection);
     }
 
-    public void addStationsInGraphForExplore(WeightedMultigraph<Station, DefaultWeightedEdge> graph) {
-        this.sections.addStationsInGraph(graph);
+    public void addStationsInGraphForExplore(GraphBuilder builder) {
+        this.sections.addStationsInGraph(builder);
     }
 
     @Override
@@ -1,6 +1,32 @@
 package nextstep.subway.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
+    /* 노선과 구간, 역을 한 번의 조회로 읽는다, distinct 는 SQL 로 보내지 않고 중복된 노선만 걸러낸다. */
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l " +
+            "join fetch l.upStation join fetch l.downStation " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation left join fetch s.downStation " +
+            "order by l.id, s.position")
+    List<Line> findAllWithStations();
+
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l " +
+            "join fetch l.upStation join fetch l.downStation " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation left join fetch s.downStation " +
+            "where l.id = :id " +
+            "order by s.position")
+    Optional<Line> findWithStationsById(@Param("id") Long id);
 }
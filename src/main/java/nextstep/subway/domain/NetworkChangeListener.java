@@ -0,0 +1,30 @@
+package nextstep.subway.domain;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/* 구간, 역의 변경을 감지하여 노선도가 바뀌었음을 알린다. */
+public class NetworkChangeListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NetworkChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        // 역의 생성, 변경은 노선도에 영향을 주지 않는다.
+        if (entity instanceof Section) {
+            eventPublisher.publishEvent(new NetworkChangedEvent(entity));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        eventPublisher.publishEvent(new NetworkChangedEvent(entity));
+    }
+}
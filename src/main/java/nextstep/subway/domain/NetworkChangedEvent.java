@@ -0,0 +1,13 @@
+package nextstep.subway.domain;
+
+public class NetworkChangedEvent {
+    private final Object entity;
+
+    public NetworkChangedEvent(Object entity) {
+        this.entity = entity;
+    }
+
+    public Object getEntity() {
+        return entity;
+    }
+}
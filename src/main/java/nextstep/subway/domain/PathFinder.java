@@ -1,28 +1,293 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.applicaion.dto.ExploredMatrix;
 import nextstep.subway.applicaion.dto.ExploredResult;
+import nextstep.subway.applicaion.dto.ExploredTree;
+import nextstep.subway.domain.path.AllPairsTable;
+import nextstep.subway.domain.path.Dijkstra;
+import nextstep.subway.domain.path.GraphBuilder;
+import nextstep.subway.domain.path.ReachableStations;
+import nextstep.subway.domain.path.SameLineShortcut;
+import nextstep.subway.domain.path.SearchMode;
+import nextstep.subway.domain.path.ShortestPath;
+import nextstep.subway.domain.path.ShortestPathSearch;
+import nextstep.subway.domain.path.ShortestPathTree;
+import nextstep.subway.domain.path.ShortestPathTreeCache;
+import nextstep.subway.domain.path.SubwayGraph;
 import nextstep.subway.handler.validator.ExploreValidator;
-import org.jgrapht.GraphPath;
-import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.WeightedMultigraph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 public class PathFinder {
+    public static final long ALL_PAIRS_DISABLED = 0;
+    public static final long TREE_CACHE_DISABLED = 0;
+    public static final ExploredResult NOT_LINKED = null;
+    public static final int NOT_LINKED_DISTANCE = -1;
+    // 도착역이 이만큼 이상이면 도착역마다 탐색하지 않고 한 번의 탐색으로 함께 확정한다.
+    private static final int MULTI_TARGET_MIN_TARGETS = 4;
 
-    private final WeightedMultigraph<Station, DefaultWeightedEdge> graph = new WeightedMultigraph(DefaultWeightedEdge.class);
+    private final SubwayGraph graph;
+    private final ShortestPathSearch search;
+    private final ShortestPathSearch multiTargetSearch;
+    private final Dijkstra treeSearch;
+    private final ShortestPathTreeCache trees;
+    private final SameLineShortcut sameLineShortcut;
 
     public PathFinder(List<Line> allLines) {
-        allLines.forEach(line -> line.addStationsInGraphForExplore(graph));
+        this(allLines, SearchMode.ALT);
+    }
+
+    public PathFinder(List<Line> allLines, SearchMode searchMode) {
+        this(allLines, searchMode, ALL_PAIRS_DISABLED);
+    }
+
+    public PathFinder(List<Line> allLines, SearchMode searchMode, long allPairsMaxBytes) {
+        this(allLines, searchMode, allPairsMaxBytes, TREE_CACHE_DISABLED);
+    }
+
+    public PathFinder(List<Line> allLines, SearchMode searchMode, long allPairsMaxBytes, long treeCacheMaxBytes) {
+        this(buildGraph(allLines), searchMode, allPairsMaxBytes, treeCacheMaxBytes);
+    }
+
+    /*
+     * 모든 역 쌍의 표가 allPairsMaxBytes 안에 들어가면 표에서 읽고, 아니면 searchMode 로 탐색한다.
+     * 한 역에서 모든 역까지 탐색한 트리는 treeCacheMaxBytes 만큼 보관해 두고, 그 역에서 출발하거나 도착하는 경로를 트리에서 읽는다.
+     */
+    public PathFinder(SubwayGraph graph, SearchMode searchMode, long allPairsMaxBytes, long treeCacheMaxBytes) {
+        this.graph = graph;
+        AllPairsTable allPairs = AllPairsTable.buildWithin(graph, allPairsMaxBytes);
+        this.search = allPairs != null ? allPairs : searchMode.create(graph);
+        this.treeSearch = new Dijkstra(graph);
+        this.multiTargetSearch = allPairs != null ? allPairs : treeSearch;
+        this.trees = new ShortestPathTreeCache(treeCacheMaxBytes);
+        this.sameLineShortcut = new SameLineShortcut(graph, search);
+    }
+
+    private static SubwayGraph buildGraph(List<Line> allLines) {
+        GraphBuilder builder = new GraphBuilder();
+        allLines.forEach(line -> line.addStationsInGraphForExplore(builder));
+        return builder.build();
     }
 
     public ExploredResult explore(Station source, Station target) {
         ExploreValidator.validateStationsIsSame(source, target);
 
-        GraphPath path = new DijkstraShortestPath(graph).getPath(source, target);
+        ShortestPath path = findPath(source.getId(), target.getId());
         ExploreValidator.validateNotFound(path);
 
-        return ExploredResult.of(path.getVertexList(), path.getWeight());
+        return ExploredResult.of(toStations(path.getStations()), path.getDistance());
+    }
+
+    private ShortestPath findPath(Long source, Long target) {
+        // 어느 노선에도 속하지 않은 역은 이어질 수 없다.
+        if (!graph.contains(source) || !graph.contains(target)) {
+            return ShortestPathSearch.NOT_FOUND;
+        }
+        int sourceIndex = graph.indexOf(source);
+        int targetIndex = graph.indexOf(target);
+
+        // 서로 다른 연결 요소에 있는 역은 탐색하지 않고 바로 거절한다.
+        if (!graph.isConnected(sourceIndex, targetIndex)) {
+            return ShortestPathSearch.NOT_FOUND;
+        }
+
+        // 두 역 중 하나를 뿌리로 하는 트리가 있으면 탐색하지 않는다.
+        ShortestPath treePath = findPathInTrees(sourceIndex, targetIndex);
+        if (treePath != ShortestPathSearch.NOT_FOUND) {
+            return treePath;
+        }
+
+        // 같은 노선 위에 있고 노선을 따라가는 길이 최단 경로로 확인된 경우에는 탐색하지 않는다.
+        ShortestPath sameLinePath = sameLineShortcut.find(sourceIndex, targetIndex);
+        if (sameLinePath != ShortestPathSearch.NOT_FOUND) {
+            return sameLinePath;
+        }
+        return search.find(sourceIndex, targetIndex);
+    }
+
+    private ShortestPath findPathInTrees(int source, int target) {
+        ShortestPathTree sourceTree = trees.get(source);
+        if (sourceTree != null) {
+            return sourceTree.pathTo(target);
+        }
+        ShortestPathTree targetTree = trees.get(target);
+        if (targetTree != null) {
+            return targetTree.pathFrom(source);
+        }
+        return ShortestPathSearch.NOT_FOUND;
+    }
+
+    /* source 에서 이어진 모든 역까지의 최단 거리와 바로 앞 역, 가까운 역부터 담는다. */
+    public ExploredTree exploreFrom(Station source) {
+        if (!graph.contains(source.getId())) {
+            return ExploredTree.of(source, Collections.singletonList(ExploredTree.Node.of(source, 0, source)));
+        }
+        ShortestPathTree tree = treeFrom(graph.indexOf(source.getId()));
+
+        List<Integer> reachedStations = new ArrayList<>();
+        for (int station = 0; station < tree.size(); station++) {
+            if (tree.reaches(station)) {
+                reachedStations.add(station);
+            }
+        }
+        reachedStations.sort(Comparator.comparingInt(tree::distanceTo));
+
+        List<ExploredTree.Node> nodes = new ArrayList<>(reachedStations.size());
+        for (int station : reachedStations) {
+            nodes.add(ExploredTree.Node.of(graph.stationAt(station), tree.distanceTo(station),
+                    graph.stationAt(tree.predecessorOf(station))));
+        }
+        return ExploredTree.of(source, nodes);
+    }
+
+    /* source 에서 maxDistance 안에 있는 역까지의 최단 거리와 바로 앞 역, 가까운 역부터 담는다. */
+    public ExploredTree exploreWithin(Station source, int maxDistance) {
+        if (!graph.contains(source.getId())) {
+            return ExploredTree.of(source, Collections.singletonList(ExploredTree.Node.of(source, 0, source)));
+        }
+        ReachableStations reachable = treeSearch.searchWithin(graph.indexOf(source.getId()), maxDistance);
+
+        List<ExploredTree.Node> nodes = new ArrayList<>(reachable.size());
+        for (int order = 0; order < reachable.size(); order++) {
+            nodes.add(ExploredTree.Node.of(graph.stationAt(reachable.stationAt(order)), reachable.distanceAt(order),
+                    graph.stationAt(reachable.predecessorAt(order))));
+        }
+        return ExploredTree.of(source, nodes);
+    }
+
+    private ShortestPathTree treeFrom(int source) {
+        ShortestPathTree tree = trees.get(source);
+        if (tree == null) {
+            tree = treeSearch.treeFrom(source);
+            trees.put(tree);
+        }
+        return tree;
+    }
+
+    /* 한 출발역에서 여러 도착역까지의 경로, 이어지지 않은 도착역 자리에는 NOT_LINKED 가 들어간다. */
+    public List<ExploredResult> exploreAll(Station source, List<Station> targets) {
+        ShortestPath[] paths = findPaths(source.getId(), targets);
+
+        List<ExploredResult> results = new ArrayList<>(paths.length);
+        for (ShortestPath path : paths) {
+            results.add(path == ShortestPathSearch.NOT_FOUND
+                    ? NOT_LINKED
+                    : ExploredResult.of(toStations(path.getStations()), path.getDistance()));
+        }
+        return results;
+    }
+
+    private ShortestPath[] findPaths(Long source, List<Station> targets) {
+        ShortestPath[] paths = new ShortestPath[targets.size()];
+        if (!graph.contains(source)) {
+            return paths;
+        }
+        int sourceIndex = graph.indexOf(source);
+
+        ShortestPathTree tree = trees.get(sourceIndex);
+        if (tree != null) {
+            for (int position = 0; position < targets.size(); position++) {
+                Long target = targets.get(position).getId();
+                paths[position] = graph.contains(target) ? tree.pathTo(graph.indexOf(target)) : ShortestPathSearch.NOT_FOUND;
+            }
+            return paths;
+        }
+
+        // 같은 노선으로 끝나는 도착역은 먼저 채우고, 남은 도착역만 탐색한다.
+        int[] remainingTargets = new int[targets.size()];
+        int[] remainingPositions = new int[targets.size()];
+        int remaining = 0;
+        for (int position = 0; position < targets.size(); position++) {
+            Long target = targets.get(position).getId();
+            if (!graph.contains(target)) {
+                continue;
+            }
+            int targetIndex = graph.indexOf(target);
+            if (!graph.isConnected(sourceIndex, targetIndex)) {
+                continue;
+            }
+            ShortestPath sameLinePath = sameLineShortcut.find(sourceIndex, targetIndex);
+            if (sameLinePath != ShortestPathSearch.NOT_FOUND) {
+                paths[position] = sameLinePath;
+                continue;
+            }
+            remainingTargets[remaining] = targetIndex;
+            remainingPositions[remaining++] = position;
+        }
+
+        ShortestPathSearch targetSearch = remaining >= MULTI_TARGET_MIN_TARGETS ? multiTargetSearch : search;
+        ShortestPath[] found = targetSearch.findAll(sourceIndex, Arrays.copyOf(remainingTargets, remaining));
+        for (int i = 0; i < remaining; i++) {
+            paths[remainingPositions[i]] = found[i];
+        }
+        return paths;
+    }
+
+    /*
+     * sources × targets 의 최단 거리를 행 우선의 한 배열로 담는다. 이어지지 않은 칸은 NOT_LINKED_DISTANCE 이다.
+     * 어느 노선에도 속하지 않은 역은 탐색에서 빼고, 같은 역끼리의 칸만 0 으로 채운다.
+     */
+    public ExploredMatrix exploreMatrix(List<Station> sources, List<Station> targets) {
+        int[] rows = positionsInGraph(sources);
+        int[] columns = positionsInGraph(targets);
+        int[] table = distanceTable(indexesAt(sources, rows), indexesAt(targets, columns));
+
+        int[] distances = new int[sources.size() * targets.size()];
+        Arrays.fill(distances, NOT_LINKED_DISTANCE);
+        for (int row = 0; row < rows.length; row++) {
+            for (int column = 0; column < columns.length; column++) {
+                int distance = table[row * columns.length + column];
+                if (distance != ShortestPathSearch.UNREACHABLE) {
+                    distances[rows[row] * targets.size() + columns[column]] = distance;
+                }
+            }
+        }
+        for (int row = 0; row < sources.size(); row++) {
+            for (int column = 0; column < targets.size(); column++) {
+                if (sources.get(row).getId().equals(targets.get(column).getId())) {
+                    distances[row * targets.size() + column] = 0;
+                }
+            }
+        }
+        return ExploredMatrix.of(sources, targets, distances);
+    }
+
+    private int[] distanceTable(int[] sources, int[] targets) {
+        int[] table = search.distanceTable(sources, targets);
+        if (table == ShortestPathSearch.NOT_SUPPORTED) {
+            table = treeSearch.distanceTable(sources, targets);
+        }
+        return table;
+    }
+
+    private int[] positionsInGraph(List<Station> stations) {
+        return IntStream.range(0, stations.size())
+                .filter(position -> graph.contains(stations.get(position).getId()))
+                .toArray();
+    }
+
+    private int[] indexesAt(List<Station> stations, int[] positions) {
+        return Arrays.stream(positions)
+                .map(position -> graph.indexOf(stations.get(position).getId()))
+                .toArray();
+    }
+
+    /* 그래프 크기와 탐색기의 전처리 정보 */
+    public String summary() {
+        return String.format("stations=%d, edges=%d, %s", graph.size(), graph.edgeSize(), search.summary());
+    }
+
+    // 탐색은 인덱스로만 하고, 역은 결과를 만들 때 한 번만 찾는다.
+    private List<Station> toStations(int[] stationIndexes) {
+        List<Station> stations = new ArrayList<>(stationIndexes.length);
+        for (int index : stationIndexes) {
+            stations.add(graph.stationAt(index));
+        }
+        return stations;
     }
 }
@@ -5,9 +5,15 @@ import nextstep.subway.handler.validator.SectionValidator;
 import javax.persistence.*;
 
 @Entity
+@EntityListeners(NetworkChangeListener.class)
+@Table(indexes = {
+        @Index(name = "ix_section_line_up_station", columnList = "line_id, up_station_id"),
+        @Index(name = "ix_section_line_down_station", columnList = "line_id, down_station_id")})
 public class Section {
+    // IDENTITY 는 저장할 때마다 id 를 받아 와야 해서 insert 를 묶어 보낼 수 없으므로, 시퀀스에서 미리 받아 둔다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_sequence")
+    @SequenceGenerator(name = "section_sequence", sequenceName = "section_sequence", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -24,6 +30,9 @@ public class Section {
 
     private int distance;
 
+    // 노선 안에서 상행 종점부터의 순서, 중간에 끼울 자리가 남도록 간격을 두고 매긴다.
+    private int position;
+
     public Section() {
 
     }
@@ -46,6 +55,10 @@ public class Section {
         return new Section(line, upStation, downStation, distance);
     }
 
+    public void moveTo(int position) {
+        this.position = position;
+    }
+
     public boolean hasUpStation(Station station) {
         return this.upStation.equals(station);
     }
@@ -65,6 +78,7 @@ public class Section {
                 ", upStation=" + upStation +
                 ", downStation=" + downStation +
                 ", distance=" + distance +
+                ", position=" + position +
                 '}';
     }
 
@@ -87,4 +101,8 @@ public class Section {
     public int getDistance() {
         return distance;
     }
+
+    public int getPosition() {
+        return position;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package nextstep.subway.domain;
+
+/*
+ * 경로 탐색 그래프를 만들 때 읽는 구간의 값
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고, 담긴 역도 조회 결과를 옮겨 담기만 한 것이다.
+ */
+public class SectionEdge {
+    private final Long lineId;
+    private final Station upStation;
+    private final Station downStation;
+    private final int distance;
+
+    public SectionEdge(Long lineId, Long upStationId, String upStationName,
+                       Long downStationId, String downStationName, int distance) {
+        this.lineId = lineId;
+        this.upStation = new Station(upStationId, upStationName);
+        this.downStation = new Station(downStationId, downStationName);
+        this.distance = distance;
+    }
+
+    public boolean isOnSameLine(SectionEdge other) {
+        return lineId.equals(other.lineId);
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Station getUpStation() {
+        return upStation;
+    }
+
+    public Station getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,29 @@
+package nextstep.subway.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+    String EDGE_FETCH_SIZE = "1000";
+
+    /* 모든 구간을 노선별로 상행 종점부터 순서대로 엔티티 없이 읽는다, 트랜잭션 안에서 닫아야 한다. */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EDGE_FETCH_SIZE))
+    @Query("select new nextstep.subway.domain.SectionEdge(s.line.id, up.id, up.name, down.id, down.name, s.distance) " +
+            "from Section s join s.upStation up join s.downStation down " +
+            "order by s.line.id, s.position")
+    Stream<SectionEdge> streamAllEdges();
+
+    /* 노선에서 주어진 역을 상행역으로 갖는 구간, (line_id, up_station_id) 색인으로 찾는다. */
+    List<Section> findAllByLineIdAndUpStationIdIn(Long lineId, Collection<Long> upStationIds);
+
+    /* 노선에서 주어진 역을 하행역으로 갖는 구간, (line_id, down_station_id) 색인으로 찾는다. */
+    List<Section> findAllByLineIdAndDownStationIdIn(Long lineId, Collection<Long> downStationIds);
+}
@@ -1,25 +1,70 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.domain.path.GraphBuilder;
 import nextstep.subway.handler.exception.ErrorCode;
 import nextstep.subway.handler.exception.SectionException;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.WeightedMultigraph;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Embeddable
 public class Sections {
+    // 새 구간은 이웃한 구간 사이의 가운데 자리를 받고, 자리가 없으면 전체 순서를 이 간격으로 다시 매긴다.
+    static final int POSITION_GAP = 1 << 10;
+
+    // 구간 수는 목록을 읽지 않고 세고, 추가한 구간은 목록을 읽지 않고 모아 두었다가 저장한다.
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
+    @LazyCollection(LazyCollectionOption.EXTRA)
+    @OrderBy("position")
     private List<Section> sections = new ArrayList<>();
 
+    // 상행역, 하행역으로 구간을 찾는 색인, 처음 쓸 때 만들고 구간이 바뀔 때 함께 고친다.
+    @Transient
+    private Map<Station, Section> sectionsByUpStation;
+    @Transient
+    private Map<Station, Section> sectionsByDownStation;
+    // 편집할 역 주변의 구간만 읽어 색인을 만든 경우, 목록에서 빼지 못한 삭제할 구간
+    @Transient
+    private List<Section> removedSections;
+
+    /*
+     * 편집할 역을 상행역이나 하행역으로 갖는 구간, 그 다음 구간만으로 색인을 만들어 전체 구간 목록을 읽지 않고 편집한다.
+     * 이때 삭제한 구간은 getRemovedSections 로 넘겨 따로 지워야 한다. 이미 모든 구간을 읽었다면 그대로 쓴다.
+     */
+    public void focusOn(Collection<Section> nearSections) {
+        if (Hibernate.isInitialized(sections)) {
+            return;
+        }
+        sectionsByUpStation = new HashMap<>(nearSections.size() * 2);
+        sectionsByDownStation = new HashMap<>(nearSections.size() * 2);
+        nearSections.forEach(this::index);
+        removedSections = new ArrayList<>();
+    }
+
+    public List<Section> getRemovedSections() {
+        return isFocused() ? removedSections : Collections.emptyList();
+    }
+
     public void add(Section section) {
         sections.add(section);
+        if (isIndexed()) {
+            index(section);
+        }
     }
 
     public int size() {
@@ -27,46 +72,72 @@ public class Sections {
     }
 
     public List<Station> getStations(Station upStation) {
-        List<Station> stations = new ArrayList<>();
-        List<Section> tmpSections = new ArrayList<>(sections);
-        Station station = upStation;
-        Section section;
-
-        while (!tmpSections.isEmpty()) {
-            section = findSectionByUpStation(tmpSections, station);
-            stations.add(section.getUpStation());
-            station = section.getDownStation();
-            tmpSections.remove(section);
-        }
+        List<Section> orderedSections = getOrderedSections();
+        List<Station> stations = new ArrayList<>(orderedSections.size() + 1);
+        orderedSections.forEach(section -> stations.add(section.getUpStation()));
 
-        stations.add(station);
+        stations.add(orderedSections.isEmpty() ? upStation : orderedSections.get(orderedSections.size() - 1).getDownStation());
         return stations;
     }
 
-    private Section findSectionByUpStation(List<Section> tmpSections, Station targetStation) {
-        return tmpSections.stream()
-                .filter(section -> section.hasUpStation(targetStation))
-                .findFirst()
-                .orElseThrow(() -> new SectionException(ErrorCode.NO_CORRECT_SECTION));
+    /* 상행 종점부터 하행 종점까지 이어지는 순서대로 구간을 반환, DB 에서 읽은 구간은 이미 순서대로 있다. */
+    public List<Section> getOrderedSections() {
+        List<Section> orderedSections = new ArrayList<>(sections);
+        orderedSections.sort(Comparator.comparingInt(Section::getPosition));
+        return orderedSections;
+    }
+
+    /* 상행 종점 앞에 붙을 구간의 자리 */
+    public int positionBefore(Section first) {
+        if ((long) first.getPosition() - POSITION_GAP < Integer.MIN_VALUE) {
+            renumber();
+        }
+        return first.getPosition() - POSITION_GAP;
+    }
+
+    /* section 과 그 다음 구간 사이에 끼울 구간의 자리, 다음 구간이 없으면 하행 종점 뒤의 자리 */
+    public int positionAfter(Section section) {
+        Section next = upStationIndex().get(section.getDownStation());
+        long nextPosition = next != null ? next.getPosition() : (long) section.getPosition() + POSITION_GAP * 2;
+        if (nextPosition - section.getPosition() < 2 || nextPosition > Integer.MAX_VALUE) {
+            renumber();
+            return positionAfter(section);
+        }
+        return (int) ((section.getPosition() + nextPosition) / 2);
+    }
+
+    private void renumber() {
+        if (isFocused()) {
+            loadAll();
+        }
+        List<Section> orderedSections = getOrderedSections();
+        for (int order = 0; order < orderedSections.size(); order++) {
+            orderedSections.get(order).moveTo(order * POSITION_GAP);
+        }
     }
 
     public void remove(Section section) {
-        if (!sections.contains(section)) {
+        if (isFocused()) {
+            removeFocused(section);
+            return;
+        }
+        if (!sections.remove(section)) {
             throw new SectionException(ErrorCode.SECTION_NOT_FOUND);
         }
-        sections.remove(section);
+        if (isIndexed()) {
+            // 같은 역을 새 구간이 이미 차지했다면 그대로 둔다.
+            sectionsByUpStation.remove(section.getUpStation(), section);
+            sectionsByDownStation.remove(section.getDownStation(), section);
+        }
     }
 
     public Section findSectionByDownStation(Station downStation) {
-        return sections.stream()
-                .filter(section -> section.hasDownStation(downStation))
-                .findFirst()
+        return Optional.ofNullable(downStationIndex().get(downStation))
                 .orElseThrow(() -> new SectionException(ErrorCode.NO_CORRECT_SECTION));
     }
 
     public boolean hasStation(Station station) {
-        return sections.stream()
-                .anyMatch(section -> section.hasStation(station));
+        return upStationIndex().containsKey(station) || downStationIndex().containsKey(station);
     }
 
     public boolean isEmpty() {
@@ -74,41 +145,81 @@ public class Sections {
     }
 
     public Optional<Section> findSameUpDifferentDown(Section section) {
-        return sections.stream()
-                .filter(oldSection -> oldSection.hasUpStation(section.getUpStation())
-                        && !oldSection.hasDownStation(section.getDownStation()))
-                .findFirst();
+        return Optional.ofNullable(upStationIndex().get(section.getUpStation()))
+                .filter(oldSection -> !oldSection.hasDownStation(section.getDownStation()));
     }
 
     public Optional<Section> findSameDownDifferentUp(Section section) {
-        return sections.stream()
-                .filter(oldSection -> oldSection.hasDownStation(section.getDownStation())
-                        && !oldSection.hasUpStation(section.getUpStation()))
-                .findFirst();
+        return Optional.ofNullable(downStationIndex().get(section.getDownStation()))
+                .filter(oldSection -> !oldSection.hasUpStation(section.getUpStation()));
     }
 
     public Section findSectionByUpStation(Station station) {
-        return sections.stream()
-                .filter(section -> section.hasUpStation(station))
-                .findFirst()
+        return Optional.ofNullable(upStationIndex().get(station))
                 .orElseThrow(() -> new SectionException(ErrorCode.NO_CORRECT_SECTION));
     }
 
     public List<Section> findSectionByStation(Station station) {
-        return sections.stream()
-                .filter(section -> section.hasStation(station))
-                .collect(Collectors.toList());
+        List<Section> found = new ArrayList<>(2);
+        Optional.ofNullable(downStationIndex().get(station)).ifPresent(found::add);
+        Optional.ofNullable(upStationIndex().get(station)).ifPresent(found::add);
+        return found;
+    }
+
+    public void addStationsInGraph(GraphBuilder builder) {
+        builder.addLine(getOrderedSections());
+    }
+
+    private Map<Station, Section> upStationIndex() {
+        if (!isIndexed()) {
+            buildIndex();
+        }
+        return sectionsByUpStation;
+    }
+
+    private Map<Station, Section> downStationIndex() {
+        if (!isIndexed()) {
+            buildIndex();
+        }
+        return sectionsByDownStation;
+    }
+
+    private boolean isIndexed() {
+        return sectionsByUpStation != null;
+    }
+
+    private boolean isFocused() {
+        return removedSections != null;
+    }
+
+    private void removeFocused(Section section) {
+        // 끼워 넣는 도중에는 같은 역을 새 구간이 먼저 차지할 수 있으므로 양쪽 색인을 모두 본다.
+        if (sectionsByUpStation.get(section.getUpStation()) != section
+                && sectionsByDownStation.get(section.getDownStation()) != section) {
+            throw new SectionException(ErrorCode.SECTION_NOT_FOUND);
+        }
+        sectionsByUpStation.remove(section.getUpStation(), section);
+        sectionsByDownStation.remove(section.getDownStation(), section);
+        removedSections.add(section);
     }
 
-    public void addStationsInGraph(WeightedMultigraph<Station, DefaultWeightedEdge> graph) {
-        sections.forEach(section -> {
-            int distance = section.getDistance();
-            Station upStation = section.getUpStation();
-            Station downStation = section.getDownStation();
+    // 모든 구간이 필요해지면 전체 목록을 읽고, 모아 둔 삭제를 목록에 반영한다.
+    private void loadAll() {
+        List<Section> pendingRemovals = removedSections;
+        removedSections = null;
+        buildIndex();
+        pendingRemovals.forEach(this::remove);
+    }
+
+    // 구간 목록은 JPA 가 직접 채우므로, 색인은 처음 찾을 때 만든다.
+    private void buildIndex() {
+        sectionsByUpStation = new HashMap<>(sections.size() * 2);
+        sectionsByDownStation = new HashMap<>(sections.size() * 2);
+        sections.forEach(this::index);
+    }
 
-            graph.addVertex(upStation);
-            graph.addVertex(downStation);
-            graph.setEdgeWeight(graph.addEdge(upStation, downStation), distance);
-        });
+    private void index(Section section) {
+        sectionsByUpStation.put(section.getUpStation(), section);
+        sectionsByDownStation.put(section.getDownStation(), section);
     }
 }
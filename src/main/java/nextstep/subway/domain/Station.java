@@ -3,6 +3,7 @@ package nextstep.subway.domain;
 import javax.persistence.*;
 
 @Entity
+@EntityListeners(NetworkChangeListener.class)
 public class Station extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +27,24 @@ public class Station extends BaseEntity {
         return new Station(name);
     }
 
+    /* 저장된 역은 id 로 같은 역인지 판단한다, 지연 로딩 프록시와도 비교할 수 있도록 getter 로 읽는다. */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Station)) {
+            return false;
+        }
+        Long otherId = ((Station) o).getId();
+        return getId() != null && getId().equals(otherId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getId() != null ? getId().hashCode() : System.identityHashCode(this);
+    }
+
     @Override
     public String toString() {
         return "Station{" +
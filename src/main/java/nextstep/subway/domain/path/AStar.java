@@ -0,0 +1,57 @@
+package nextstep.subway.domain.path;
+
+/*
+ * 기준역(landmark)으로 구한 거리의 하한을 따라 도착역 쪽으로 먼저 나아가는 A* 탐색 (ALT)
+ * 하한은 삼각 부등식에서 나오므로 한 구간을 지날 때 구간 거리보다 많이 줄지 않고, 그래서 한 번 꺼낸 역의 거리는 다시 바뀌지 않는다.
+ * 큐의 키는 (출발역부터의 거리 + 도착역까지의 하한) 이고, 이웃으로 가면 최대 구간 거리의 두 배까지 늘어난다.
+ */
+public class AStar implements ShortestPathSearch {
+    private final SubwayGraph graph;
+    private final Landmarks landmarks;
+
+    public AStar(SubwayGraph graph) {
+        this(graph, Landmarks.select(graph));
+    }
+
+    public AStar(SubwayGraph graph, Landmarks landmarks) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        SearchState state = SearchState.forward(graph.size());
+        StationQueue queue = state.queueFor(2 * graph.maxWeight());
+
+        state.reach(source, 0, source);
+        queue.offer(source, landmarks.lowerBound(source, target));
+
+        while (!queue.isEmpty()) {
+            int station = queue.poll();
+            if (station == target) {
+                return ShortestPath.trace(state.predecessors(), target, state.distance(target));
+            }
+            state.settle(station);
+
+            int base = state.distance(station);
+            for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                int neighbour = graph.neighbours[edge];
+                if (state.isSettled(neighbour)) {
+                    continue;
+                }
+
+                int distance = base + graph.weights[edge];
+                if (distance < state.distance(neighbour)) {
+                    state.reach(neighbour, distance, station);
+                    queue.offer(neighbour, distance + landmarks.lowerBound(neighbour, target));
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public String summary() {
+        return String.format("%s(landmarks=%d)", getClass().getSimpleName(), landmarks.count());
+    }
+}
@@ -0,0 +1,95 @@
+package nextstep.subway.domain.path;
+
+import java.util.stream.IntStream;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+
+/*
+ * 모든 역 쌍의 최단 거리와 다음 역을 미리 구해 두고, 탐색 없이 표에서 경로를 읽는다.
+ * 역 t 의 행에는 t 에서 시작한 다익스트라 결과가 들어가며, 무방향 그래프이므로 행 t 의 선행 역은 각 역에서 t 쪽으로 가는 다음 역이 된다.
+ * 행마다 독립적으로 계산하므로 ForkJoin 공용 풀에서 병렬로 채운다.
+ * 역 수의 제곱에 비례하는 메모리를 쓰므로, 주어진 크기 안에 들어갈 때만 만든다.
+ */
+public class AllPairsTable implements ShortestPathSearch {
+    private static final int BYTES_PER_PAIR = Integer.BYTES * 2;
+
+    private final int size;
+    private final int[] distances;
+    private final int[] nextStations;
+    private final long buildMillis;
+
+    private AllPairsTable(SubwayGraph graph) {
+        long startedAt = System.nanoTime();
+        this.size = graph.size();
+        this.distances = new int[size * size];
+        this.nextStations = new int[size * size];
+
+        Dijkstra dijkstra = new Dijkstra(graph);
+        IntStream.range(0, size).parallel().forEach(target -> fillRow(dijkstra, target));
+        this.buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    /* 표가 maxBytes 안에 들어가면 만들고, 아니면 null 을 반환한다. */
+    public static AllPairsTable buildWithin(SubwayGraph graph, long maxBytes) {
+        if (maxBytes <= 0 || requiredBytes(graph) > maxBytes || (long) graph.size() * graph.size() > Integer.MAX_VALUE) {
+            return null;
+        }
+        return new AllPairsTable(graph);
+    }
+
+    public static long requiredBytes(SubwayGraph graph) {
+        return requiredBytes(graph.size());
+    }
+
+    private void fillRow(Dijkstra dijkstra, int target) {
+        SearchState state = dijkstra.searchAll(target);
+        int[] predecessors = state.predecessors();
+        int row = target * size;
+        for (int station = 0; station < size; station++) {
+            int distance = state.distance(station);
+            distances[row + station] = distance;
+            nextStations[row + station] = distance == INFINITY ? station : predecessors[station];
+        }
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        int row = target * size;
+        int distance = distances[row + source];
+        if (distance == INFINITY) {
+            return NOT_FOUND;
+        }
+
+        int length = 1;
+        for (int station = source; station != target; station = nextStations[row + station]) {
+            length++;
+        }
+        int[] stations = new int[length];
+        int station = source;
+        for (int i = 0; i < length; i++) {
+            stations[i] = station;
+            station = nextStations[row + station];
+        }
+        return new ShortestPath(stations, distance);
+    }
+
+    @Override
+    public int[] distanceTable(int[] sources, int[] targets) {
+        int[] table = new int[sources.length * targets.length];
+        for (int row = 0; row < sources.length; row++) {
+            for (int column = 0; column < targets.length; column++) {
+                table[row * targets.length + column] = distances[targets[column] * size + sources[row]];
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public String summary() {
+        return String.format("%s(build=%dms, size=%dKB)", getClass().getSimpleName(), buildMillis, requiredBytes(size) / 1024);
+    }
+
+    private static long requiredBytes(int size) {
+        return (long) BYTES_PER_PAIR * size * size;
+    }
+}
@@ -0,0 +1,113 @@
+package nextstep.subway.domain.path;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+import static nextstep.subway.domain.path.SubwayGraph.NO_STATION;
+
+/*
+ * 출발역과 도착역에서 동시에 탐색을 시작해 가운데에서 만나는 양방향 다익스트라 탐색
+ * 두 방향 중 큐의 최소 거리가 짧은 쪽을 한 역씩 확정하며, 역의 거리가 바뀔 때마다 반대 방향의 거리와 더해 가장 짧은 경로 길이를 갱신한다.
+ * 두 큐의 최소 거리의 합이 지금까지 찾은 가장 짧은 경로 길이 이상이 되면 더 짧은 경로는 없으므로 멈춘다.
+ */
+public class BidirectionalDijkstra implements ShortestPathSearch {
+    private final SubwayGraph graph;
+
+    public BidirectionalDijkstra(SubwayGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        if (source == target) {
+            return new ShortestPath(new int[]{source}, 0);
+        }
+
+        SearchState forward = SearchState.forward(graph.size());
+        SearchState backward = SearchState.backward(graph.size());
+        StationQueue forwardQueue = forward.queueFor(graph);
+        StationQueue backwardQueue = backward.queueFor(graph);
+
+        seed(forward, forwardQueue, source, 0);
+        seed(backward, backwardQueue, target, 0);
+        return search(forward, backward, forwardQueue, backwardQueue, INFINITY, NO_STATION);
+    }
+
+    /*
+     * 여러 출발역과 도착역에서 각자 주어진 거리만큼 떨어진 채로 탐색을 시작해, 가장 짧은 (출발역, 도착역) 쌍의 경로를 찾는다.
+     * 시작 거리는 그래프의 최대 구간 거리를 넘지 않아야 한다.
+     */
+    ShortestPath find(int[] sources, int[] sourceDistances, int[] targets, int[] targetDistances) {
+        SearchState forward = SearchState.forward(graph.size());
+        SearchState backward = SearchState.backward(graph.size());
+        StationQueue forwardQueue = forward.queueFor(graph);
+        StationQueue backwardQueue = backward.queueFor(graph);
+
+        for (int i = 0; i < sources.length; i++) {
+            seed(forward, forwardQueue, sources[i], sourceDistances[i]);
+        }
+        int best = INFINITY;
+        int meeting = NO_STATION;
+        for (int i = 0; i < targets.length; i++) {
+            seed(backward, backwardQueue, targets[i], targetDistances[i]);
+        }
+        // 출발역이면서 도착역인 역이 있으면 그 역에서 이미 만난 것이다.
+        for (int target : targets) {
+            int distance = forward.distance(target);
+            if (distance != INFINITY && (long) distance + backward.distance(target) < best) {
+                best = distance + backward.distance(target);
+                meeting = target;
+            }
+        }
+        return search(forward, backward, forwardQueue, backwardQueue, best, meeting);
+    }
+
+    private static void seed(SearchState state, StationQueue queue, int station, int distance) {
+        if (distance < state.distance(station)) {
+            state.reach(station, distance, station);
+            queue.offer(station, distance);
+        }
+    }
+
+    private ShortestPath search(SearchState forward, SearchState backward,
+                                StationQueue forwardQueue, StationQueue backwardQueue, int best, int meeting) {
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            int forwardMin = forwardQueue.peekDistance();
+            int backwardMin = backwardQueue.peekDistance();
+            if ((long) forwardMin + backwardMin >= best) {
+                break;
+            }
+
+            boolean forwardTurn = forwardMin <= backwardMin;
+            SearchState self = forwardTurn ? forward : backward;
+            SearchState other = forwardTurn ? backward : forward;
+            StationQueue queue = forwardTurn ? forwardQueue : backwardQueue;
+
+            int station = queue.poll();
+            self.settle(station);
+
+            int base = self.distance(station);
+            for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                int neighbour = graph.neighbours[edge];
+                if (self.isSettled(neighbour)) {
+                    continue;
+                }
+
+                int distance = base + graph.weights[edge];
+                if (distance < self.distance(neighbour)) {
+                    self.reach(neighbour, distance, station);
+                    queue.offer(neighbour, distance);
+                }
+
+                int otherDistance = other.distance(neighbour);
+                if (otherDistance != INFINITY && (long) self.distance(neighbour) + otherDistance < best) {
+                    best = self.distance(neighbour) + otherDistance;
+                    meeting = neighbour;
+                }
+            }
+        }
+
+        if (meeting == NO_STATION) {
+            return NOT_FOUND;
+        }
+        return ShortestPath.join(forward.predecessors(), backward.predecessors(), meeting, best);
+    }
+}
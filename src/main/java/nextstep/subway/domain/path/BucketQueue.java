@@ -0,0 +1,114 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/*
+ * 간선 가중치가 작은 정수일 때 쓰는 버킷 큐 (Dial's algorithm)
+ * 다익스트라에서 큐에 들어있는 거리는 항상 [현재 최소, 현재 최소 + 최대 가중치] 범위에 있으므로,
+ * 최대 가중치 + 1 개의 버킷을 원형으로 돌려 쓰면 한 버킷에는 한 가지 거리만 담긴다.
+ * 버킷마다 역을 이중 연결 리스트로 이어 두어 거리를 줄일 때 다른 버킷으로 바로 옮긴다.
+ */
+class BucketQueue implements StationQueue {
+    private static final int NONE = -1;
+    private static final int NOT_MEMBER = 0;
+
+    private int[] heads = new int[0];
+    private int[] next = new int[0];
+    private int[] previous = new int[0];
+    private int[] keys = new int[0];
+    private int[] members = new int[0];
+    private int generation;
+
+    private int bucketSize;
+    private int size;
+    private int cursor;
+
+    void ensureCapacity(int capacity, int maxWeight) {
+        bucketSize = maxWeight + 1;
+        if (heads.length < bucketSize) {
+            heads = new int[bucketSize];
+        }
+        if (next.length < capacity) {
+            next = new int[capacity];
+            previous = new int[capacity];
+            keys = new int[capacity];
+            members = new int[capacity];
+            generation = NOT_MEMBER;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(heads, 0, bucketSize, NONE);
+        size = 0;
+        cursor = 0;
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(members, NOT_MEMBER);
+            generation = NOT_MEMBER + 1;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void offer(int station, int key) {
+        if (members[station] == generation) {
+            unlink(station);
+        } else {
+            members[station] = generation;
+            size++;
+        }
+        keys[station] = key;
+        link(station);
+    }
+
+    @Override
+    public int peekDistance() {
+        return keys[heads[nextBucket()]];
+    }
+
+    @Override
+    public int poll() {
+        int station = heads[nextBucket()];
+        unlink(station);
+        members[station] = NOT_MEMBER;
+        size--;
+        return station;
+    }
+
+    /* 비어있지 않은 버킷이 나올 때까지 커서를 옮긴다. */
+    private int nextBucket() {
+        int bucket = cursor % bucketSize;
+        while (heads[bucket] == NONE) {
+            cursor++;
+            bucket = bucket + 1 == bucketSize ? 0 : bucket + 1;
+        }
+        return bucket;
+    }
+
+    private void link(int station) {
+        int bucket = keys[station] % bucketSize;
+        int head = heads[bucket];
+        next[station] = head;
+        previous[station] = NONE;
+        if (head != NONE) {
+            previous[head] = station;
+        }
+        heads[bucket] = station;
+    }
+
+    private void unlink(int station) {
+        int before = previous[station];
+        int after = next[station];
+        if (before == NONE) {
+            heads[keys[station] % bucketSize] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            previous[after] = before;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+import static nextstep.subway.domain.path.SubwayGraph.NO_STATION;
+
+/*
+ * 환승역이나 종점이 아닌 역, 즉 한 노선 위에서 두 역 사이에 끼어 있기만 한 역들을 묶어 하나의 긴 간선(chain)으로 줄인 그래프에서 탐색한다.
+ * 줄인 그래프(core)에는 환승역과 종점만 남고, 탐색이 끝나면 chain 을 다시 펼쳐 중간의 역을 채운다.
+ * chain 중간에 있는 출발역, 도착역은 chain 의 양 끝에서 각자의 거리만큼 떨어진 채로 탐색을 시작한다.
+ */
+public class ChainContraction implements ShortestPathSearch {
+    private static final int JUNCTION = -1;
+
+    private final int size;
+    private final SubwayGraph core;
+    private final BidirectionalDijkstra coreSearch;
+    private final int[] coreIndexes;
+    private final int[] originalIndexes;
+
+    // 역마다 속한 chain 과 chain 시작역으로부터의 거리, chain 안에서의 순서
+    private final int[] chainOf;
+    private final int[] chainOffsets;
+    private final int[] chainPositions;
+
+    private final int[] chainStarts;
+    private final int[] chainEnds;
+    private final int[] chainLengths;
+    // chain 의 중간 역들은 시작역 쪽부터 interiors 의 [interiorStarts[c], interiorStarts[c + 1]) 구간에 들어있다.
+    private final int[] interiorStarts;
+    private final int[] interiors;
+    private final Map<Long, Integer> shortestChains = new HashMap<>();
+
+    public ChainContraction(SubwayGraph graph) {
+        this.size = graph.size();
+        boolean[] junctions = findJunctions(graph);
+
+        Chains chains = new Chains(graph, junctions);
+        chains.collect();
+        this.chainOf = chains.chainOf;
+        this.chainOffsets = chains.offsets;
+        this.chainPositions = chains.positions;
+        this.chainStarts = Arrays.copyOf(chains.starts, chains.count);
+        this.chainEnds = Arrays.copyOf(chains.ends, chains.count);
+        this.chainLengths = Arrays.copyOf(chains.lengths, chains.count);
+        this.interiorStarts = Arrays.copyOf(chains.interiorStarts, chains.count + 1);
+        this.interiors = Arrays.copyOf(chains.interiors, chains.interiorSize);
+
+        GraphBuilder builder = new GraphBuilder();
+        for (int chain = 0; chain < chainStarts.length; chain++) {
+            builder.addSection(graph.stationAt(chainStarts[chain]), graph.stationAt(chainEnds[chain]), chainLengths[chain]);
+            shortestChains.merge(pairKey(chainStarts[chain], chainEnds[chain]), chain,
+                    (current, next) -> chainLengths[next] < chainLengths[current] ? next : current);
+        }
+        this.core = builder.build();
+        this.coreSearch = new BidirectionalDijkstra(core);
+
+        this.coreIndexes = new int[size];
+        this.originalIndexes = new int[core.size()];
+        for (int station = 0; station < size; station++) {
+            coreIndexes[station] = core.indexOf(graph.stationAt(station).getId());
+            if (coreIndexes[station] != NO_STATION) {
+                originalIndexes[coreIndexes[station]] = station;
+            }
+        }
+    }
+
+    /*
+     * 간선이 정확히 두 개이고 서로 다른 역으로 이어진 역만 chain 의 중간 역이 된다.
+     * chain 이 같은 역에서 시작해 같은 역으로 돌아오면 양 끝을 구분할 수 없으므로, 마지막 중간 역을 환승역처럼 남긴다.
+     */
+    private static boolean[] findJunctions(SubwayGraph graph) {
+        int size = graph.size();
+        boolean[] junctions = new boolean[size];
+        for (int station = 0; station < size; station++) {
+            int first = graph.offsets[station];
+            junctions[station] = graph.offsets[station + 1] - first != 2
+                    || graph.neighbours[first] == graph.neighbours[first + 1];
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            boolean[] visited = new boolean[size];
+            for (int station = 0; station < size; station++) {
+                if (!junctions[station]) {
+                    continue;
+                }
+                for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                    int previous = station;
+                    int current = graph.neighbours[edge];
+                    while (!junctions[current] && !visited[current]) {
+                        visited[current] = true;
+                        int next = otherNeighbour(graph, current, previous);
+                        previous = current;
+                        current = next;
+                    }
+                    if (current == station && previous != station && !junctions[previous]) {
+                        junctions[previous] = true;
+                        changed = true;
+                    }
+                }
+            }
+            // 환승역 없이 고리로만 이어진 역들은 한 역을 환승역으로 남기고, 다음 반복에서 위의 규칙으로 한 역을 더 남긴다.
+            for (int station = 0; station < size; station++) {
+                if (!junctions[station] && !visited[station]) {
+                    junctions[station] = true;
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        return junctions;
+    }
+
+    private static int otherNeighbour(SubwayGraph graph, int station, int previous) {
+        int first = graph.offsets[station];
+        return graph.neighbours[first] == previous ? graph.neighbours[first + 1] : graph.neighbours[first];
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        if (source == target) {
+            return new ShortestPath(new int[]{source}, 0);
+        }
+
+        int best = INFINITY;
+        if (chainOf[source] != JUNCTION && chainOf[source] == chainOf[target]) {
+            best = Math.abs(chainOffsets[source] - chainOffsets[target]);
+        }
+
+        ShortestPath corePath = coreSearch.find(seedStations(source), seedDistances(source),
+                seedStations(target), seedDistances(target));
+        if (corePath != NOT_FOUND && corePath.getDistance() < best) {
+            return new ShortestPath(expand(source, target, corePath.getStations()), corePath.getDistance());
+        }
+        if (best == INFINITY) {
+            return NOT_FOUND;
+        }
+        return new ShortestPath(sliceChain(source, target), best);
+    }
+
+    /* 환승역은 그 자신이, chain 중간의 역은 chain 의 양 끝이 탐색을 시작하는 역이다. */
+    private int[] seedStations(int station) {
+        int chain = chainOf[station];
+        if (chain == JUNCTION) {
+            return coreIndexes[station] == NO_STATION ? new int[0] : new int[]{coreIndexes[station]};
+        }
+        return new int[]{coreIndexes[chainStarts[chain]], coreIndexes[chainEnds[chain]]};
+    }
+
+    private int[] seedDistances(int station) {
+        int chain = chainOf[station];
+        if (chain == JUNCTION) {
+            return new int[]{0};
+        }
+        return new int[]{chainOffsets[station], chainLengths[chain] - chainOffsets[station]};
+    }
+
+    private int[] expand(int source, int target, int[] coreStations) {
+        PathBuilder path = new PathBuilder();
+        path.add(source);
+
+        int first = originalIndexes[coreStations[0]];
+        if (first != source) {
+            appendAlongChain(source, first, path);
+        }
+        for (int i = 0; i + 1 < coreStations.length; i++) {
+            int from = originalIndexes[coreStations[i]];
+            int to = originalIndexes[coreStations[i + 1]];
+            appendChain(shortestChains.get(pairKey(from, to)), from, path);
+            path.add(to);
+        }
+
+        int last = originalIndexes[coreStations[coreStations.length - 1]];
+        if (last != target) {
+            appendFromChainEnd(last, target, path);
+        }
+        return path.toArray();
+    }
+
+    /* chain 중간의 역 station 다음 역부터 끝 역 end 까지 */
+    private void appendAlongChain(int station, int end, PathBuilder path) {
+        int chain = chainOf[station];
+        int position = interiorStarts[chain] + chainPositions[station];
+        if (end == chainStarts[chain]) {
+            for (int i = position - 1; i >= interiorStarts[chain]; i--) {
+                path.add(interiors[i]);
+            }
+        } else {
+            for (int i = position + 1; i < interiorStarts[chain + 1]; i++) {
+                path.add(interiors[i]);
+            }
+        }
+        path.add(end);
+    }
+
+    /* 끝 역 end 다음 역부터 chain 중간의 역 station 까지 */
+    private void appendFromChainEnd(int end, int station, PathBuilder path) {
+        int chain = chainOf[station];
+        int position = interiorStarts[chain] + chainPositions[station];
+        if (end == chainStarts[chain]) {
+            for (int i = interiorStarts[chain]; i <= position; i++) {
+                path.add(interiors[i]);
+            }
+        } else {
+            for (int i = interiorStarts[chain + 1] - 1; i >= position; i--) {
+                path.add(interiors[i]);
+            }
+        }
+    }
+
+    /* chain 의 중간 역들을 from 쪽부터 넣는다. */
+    private void appendChain(int chain, int from, PathBuilder path) {
+        if (from == chainStarts[chain]) {
+            for (int i = interiorStarts[chain]; i < interiorStarts[chain + 1]; i++) {
+                path.add(interiors[i]);
+            }
+        } else {
+            for (int i = interiorStarts[chain + 1] - 1; i >= interiorStarts[chain]; i--) {
+                path.add(interiors[i]);
+            }
+        }
+    }
+
+    /* 같은 chain 위의 두 역 사이 */
+    private int[] sliceChain(int source, int target) {
+        int start = interiorStarts[chainOf[source]];
+        int from = chainPositions[source];
+        int to = chainPositions[target];
+        int[] stations = new int[Math.abs(to - from) + 1];
+        int step = from < to ? 1 : -1;
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = interiors[start + from + i * step];
+        }
+        return stations;
+    }
+
+    private long pairKey(int station, int other) {
+        return (long) Math.min(station, other) * size + Math.max(station, other);
+    }
+
+    public int coreSize() {
+        return core.size();
+    }
+
+    public int chainCount() {
+        return chainStarts.length;
+    }
+
+    @Override
+    public String summary() {
+        return String.format("%s(core=%d, chains=%d)", getClass().getSimpleName(), coreSize(), chainCount());
+    }
+
+    /* 환승역에서 출발해 다음 환승역에 닿을 때까지 따라가며 chain 을 모은다. */
+    private static class Chains {
+        private final SubwayGraph graph;
+        private final boolean[] junctions;
+
+        private final int[] chainOf;
+        private final int[] offsets;
+        private final int[] positions;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int[] lengths = new int[16];
+        private int[] interiorStarts = new int[17];
+        private final int[] interiors;
+        private int interiorSize;
+        private int count;
+
+        private Chains(SubwayGraph graph, boolean[] junctions) {
+            this.graph = graph;
+            this.junctions = junctions;
+            this.chainOf = new int[graph.size()];
+            this.offsets = new int[graph.size()];
+            this.positions = new int[graph.size()];
+            this.interiors = new int[graph.size()];
+            Arrays.fill(chainOf, JUNCTION);
+        }
+
+        private void collect() {
+            for (int station = 0; station < graph.size(); station++) {
+                if (!junctions[station]) {
+                    continue;
+                }
+                for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                    int neighbour = graph.neighbours[edge];
+                    // 환승역끼리 바로 이어진 구간은 한쪽에서만, 이미 모은 chain 은 다시 모으지 않는다.
+                    if (junctions[neighbour] ? station < neighbour : chainOf[neighbour] == JUNCTION) {
+                        follow(station, edge);
+                    }
+                }
+            }
+        }
+
+        private void follow(int start, int firstEdge) {
+            ensureCapacity();
+            int chain = count++;
+            interiorStarts[chain] = interiorSize;
+
+            int previous = start;
+            int current = graph.neighbours[firstEdge];
+            int length = graph.weights[firstEdge];
+            while (!junctions[current]) {
+                chainOf[current] = chain;
+                offsets[current] = length;
+                positions[current] = interiorSize - interiorStarts[chain];
+                interiors[interiorSize++] = current;
+
+                int edge = edgeTo(current, previous);
+                previous = current;
+                current = graph.neighbours[edge];
+                length += graph.weights[edge];
+            }
+
+            starts[chain] = start;
+            ends[chain] = current;
+            lengths[chain] = length;
+            interiorStarts[chain + 1] = interiorSize;
+        }
+
+        /* 간선이 두 개인 역에서 previous 가 아닌 쪽 간선 */
+        private int edgeTo(int station, int previous) {
+            int first = graph.offsets[station];
+            return graph.neighbours[first] == previous ? first + 1 : first;
+        }
+
+        private void ensureCapacity() {
+            if (count + 1 < starts.length) {
+                return;
+            }
+            int capacity = starts.length * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            interiorStarts = Arrays.copyOf(interiorStarts, capacity + 1);
+        }
+    }
+}
@@ -0,0 +1,538 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+
+/*
+ * 축약 계층(contraction hierarchy)으로 미리 만든 색인 위에서 최단 경로를 찾는다.
+ * 중요하지 않은 역부터 하나씩 축약하며, 축약한 역을 거치는 것 말고는 더 짧은 길이 없는 이웃 사이에 지름길(shortcut)을 넣는다.
+ * 탐색은 출발역과 도착역에서 각각 더 나중에 축약된 역으로만 올라가므로 노선도의 지름과 무관하게 적은 역만 확정한다.
+ * 지름길은 건너뛴 역을 기억하고 있어, 찾은 경로를 펼치면 중간의 모든 역이 나온다.
+ */
+public class ContractionHierarchy implements ShortestPathSearch {
+    private static final int NONE = -1;
+    // 우선순위를 계산할 때는 지름길 수만 어림하면 되므로 witness 탐색을 더 일찍 멈춘다.
+    private static final int SIMULATION_SETTLE_LIMIT = 10;
+    private static final int WITNESS_SETTLE_LIMIT = 200;
+    private static final long PRIORITY_OFFSET = 1L << 30;
+
+    private final int size;
+    private final int[] ranks;
+    // 역마다 자신보다 나중에 축약된 역으로 가는 간선이 [arcStarts[v], arcEnds[v]) 에 있다.
+    private final int[] arcStarts;
+    private final int[] arcEnds;
+    private final int[] arcSources;
+    private final int[] arcTargets;
+    private final int[] arcWeights;
+    private final int[] arcMiddles;
+    private final int shortcutCount;
+    private final long preprocessingMillis;
+
+    public ContractionHierarchy(SubwayGraph graph) {
+        long startedAt = System.nanoTime();
+        Contraction contraction = new Contraction(graph);
+        contraction.run();
+
+        this.size = graph.size();
+        this.ranks = contraction.ranks;
+        this.arcStarts = contraction.arcStarts;
+        this.arcEnds = contraction.arcEnds;
+        this.arcSources = Arrays.copyOf(contraction.arcSources, contraction.arcCount);
+        this.arcTargets = Arrays.copyOf(contraction.arcTargets, contraction.arcCount);
+        this.arcWeights = Arrays.copyOf(contraction.arcWeights, contraction.arcCount);
+        this.arcMiddles = Arrays.copyOf(contraction.arcMiddles, contraction.arcCount);
+        this.shortcutCount = contraction.shortcutCount;
+        this.preprocessingMillis = (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        if (source == target) {
+            return new ShortestPath(new int[]{source}, 0);
+        }
+
+        SearchState forward = SearchState.forward(size);
+        SearchState backward = SearchState.backward(size);
+        StationQueue forwardQueue = forward.heap();
+        StationQueue backwardQueue = backward.heap();
+
+        forward.reach(source, 0, NONE);
+        forwardQueue.offer(source, 0);
+        backward.reach(target, 0, NONE);
+        backwardQueue.offer(target, 0);
+
+        int best = INFINITY;
+        int meeting = NONE;
+        // 위로만 올라가므로 한쪽이 끝나도 다른 쪽은 계속 올라가야 한다. 큐의 최소 거리가 지금까지의 최단 거리 이상이면 그쪽은 멈춘다.
+        while (isOpen(forwardQueue, best) || isOpen(backwardQueue, best)) {
+            boolean forwardTurn = isOpen(forwardQueue, best)
+                    && (!isOpen(backwardQueue, best) || forwardQueue.peekDistance() <= backwardQueue.peekDistance());
+            SearchState self = forwardTurn ? forward : backward;
+            SearchState other = forwardTurn ? backward : forward;
+            StationQueue queue = forwardTurn ? forwardQueue : backwardQueue;
+
+            int station = queue.poll();
+            self.settle(station);
+
+            int base = self.distance(station);
+            int otherDistance = other.distance(station);
+            if (otherDistance != INFINITY && (long) base + otherDistance < best) {
+                best = base + otherDistance;
+                meeting = station;
+            }
+
+            if (isStalled(self, station, base)) {
+                continue;
+            }
+            for (int arc = arcStarts[station]; arc < arcEnds[station]; arc++) {
+                int neighbour = arcTargets[arc];
+                int distance = base + arcWeights[arc];
+                if (!self.isSettled(neighbour) && distance < self.distance(neighbour)) {
+                    // 경로를 펼칠 때 지름길이 건너뛴 역을 알 수 있도록 역 대신 간선을 기록한다.
+                    self.reach(neighbour, distance, arc);
+                    queue.offer(neighbour, distance);
+                }
+            }
+        }
+
+        if (meeting == NONE) {
+            return NOT_FOUND;
+        }
+        return new ShortestPath(unpack(forward.predecessors(), backward.predecessors(), meeting), best);
+    }
+
+    /*
+     * 버킷 방식의 다대다 거리 표
+     * 도착역마다 위로만 올라가는 탐색을 하고, 확정한 역의 버킷에 (도착역, 거리) 를 남긴다.
+     * 출발역마다 같은 방식으로 올라가며 확정한 역의 버킷을 훑으면, 두 탐색이 만나는 가장 짧은 조합이 그 칸의 거리가 된다.
+     * 탐색은 N + M 번이고, 각 탐색은 서로 독립적이어서 병렬로 실행한다.
+     */
+    @Override
+    public int[] distanceTable(int[] sources, int[] targets) {
+        Buckets buckets = Buckets.collect(size, IntStream.range(0, targets.length).parallel()
+                .mapToObj(column -> searchUpward(targets[column]))
+                .toArray(UpwardSpace[]::new));
+
+        int[] table = new int[sources.length * targets.length];
+        Arrays.fill(table, INFINITY);
+        IntStream.range(0, sources.length).parallel()
+                .forEach(row -> buckets.scan(searchUpward(sources[row]), table, row * targets.length));
+        return table;
+    }
+
+    /* root 에서 위로만 올라가며 확정한 역과 거리, 멈춘 역은 거리가 최단이 아니므로 넣지 않는다. */
+    private UpwardSpace searchUpward(int root) {
+        SearchState state = SearchState.forward(size);
+        StationQueue queue = state.heap();
+        state.reach(root, 0, NONE);
+        queue.offer(root, 0);
+
+        PathBuilder stations = new PathBuilder();
+        PathBuilder distances = new PathBuilder();
+        while (!queue.isEmpty()) {
+            int station = queue.poll();
+            state.settle(station);
+
+            int base = state.distance(station);
+            if (isStalled(state, station, base)) {
+                continue;
+            }
+            stations.add(station);
+            distances.add(base);
+            for (int arc = arcStarts[station]; arc < arcEnds[station]; arc++) {
+                int neighbour = arcTargets[arc];
+                int distance = base + arcWeights[arc];
+                if (!state.isSettled(neighbour) && distance < state.distance(neighbour)) {
+                    state.reach(neighbour, distance, arc);
+                    queue.offer(neighbour, distance);
+                }
+            }
+        }
+        return new UpwardSpace(stations.toArray(), distances.toArray());
+    }
+
+    /*
+     * 그래프가 무방향이므로 위로 가는 간선의 반대편은 이 역보다 위에 있는 이웃이다.
+     * 위의 이웃을 거쳐 오는 길이 더 짧으면 이 역까지 올라온 거리는 최단이 아니므로 더 퍼뜨리지 않는다. (stall-on-demand)
+     */
+    private boolean isStalled(SearchState state, int station, int distance) {
+        for (int arc = arcStarts[station]; arc < arcEnds[station]; arc++) {
+            int upper = state.distance(arcTargets[arc]);
+            if (upper != INFINITY && upper + arcWeights[arc] < distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOpen(StationQueue queue, int best) {
+        return !queue.isEmpty() && queue.peekDistance() < best;
+    }
+
+    private int[] unpack(int[] forwardArcs, int[] backwardArcs, int meeting) {
+        // 출발역에서 만난 역까지 올라간 간선을 거꾸로 모은 뒤 순서대로 펼친다.
+        PathBuilder upward = new PathBuilder();
+        for (int station = meeting; forwardArcs[station] != NONE; station = arcSources[forwardArcs[station]]) {
+            upward.add(forwardArcs[station]);
+        }
+
+        PathBuilder path = new PathBuilder();
+        int first = upward.size() == 0 ? meeting : arcSources[upward.get(upward.size() - 1)];
+        path.add(first);
+        for (int i = upward.size() - 1; i >= 0; i--) {
+            int arc = upward.get(i);
+            appendStations(arcSources[arc], arcTargets[arc], arcMiddles[arc], path);
+        }
+        for (int station = meeting; backwardArcs[station] != NONE; station = arcSources[backwardArcs[station]]) {
+            int arc = backwardArcs[station];
+            appendStations(station, arcSources[arc], arcMiddles[arc], path);
+        }
+        return path.toArray();
+    }
+
+    /* from 다음 역부터 to 까지를 이어 붙인다. 지름길이면 건너뛴 역을 기준으로 나누어 펼친다. */
+    private void appendStations(int from, int to, int middle, PathBuilder path) {
+        if (middle == NONE) {
+            path.add(to);
+            return;
+        }
+        appendStations(from, middle, middleOf(from, middle), path);
+        appendStations(middle, to, middleOf(middle, to), path);
+    }
+
+    private int middleOf(int station, int other) {
+        int lower = ranks[station] < ranks[other] ? station : other;
+        int higher = lower == station ? other : station;
+        for (int arc = arcStarts[lower]; arc < arcEnds[lower]; arc++) {
+            if (arcTargets[arc] == higher) {
+                return arcMiddles[arc];
+            }
+        }
+        throw new IllegalStateException("축약 계층에 없는 간선입니다.");
+    }
+
+    public int shortcutCount() {
+        return shortcutCount;
+    }
+
+    public long preprocessingMillis() {
+        return preprocessingMillis;
+    }
+
+    /* 색인이 차지하는 int 배열의 크기 */
+    public long indexBytes() {
+        return (long) Integer.BYTES * (ranks.length + arcStarts.length + arcEnds.length
+                + arcSources.length + arcTargets.length + arcWeights.length + arcMiddles.length);
+    }
+
+    @Override
+    public String summary() {
+        return String.format("%s(preprocessing=%dms, arcs=%d, shortcuts=%d, index=%dKB)",
+                getClass().getSimpleName(), preprocessingMillis, arcTargets.length, shortcutCount, indexBytes() / 1024);
+    }
+
+    /*
+     * 축약하는 동안에만 쓰는 인접 리스트와 축약 순서
+     * 두 역 사이에는 가장 짧은 간선 하나만 남기고, 축약한 역은 이웃의 목록에서 지워 남은 역들만 이어지게 한다.
+     */
+    private static class UpwardSpace {
+        private final int[] stations;
+        private final int[] distances;
+
+        private UpwardSpace(int[] stations, int[] distances) {
+            this.stations = stations;
+            this.distances = distances;
+        }
+    }
+
+    /* 역마다 [starts[v], starts[v + 1]) 에 그 역을 지나 올라간 도착역의 열 번호와 거리가 있다. */
+    private static class Buckets {
+        private final int[] starts;
+        private final int[] columns;
+        private final int[] distances;
+
+        private Buckets(int[] starts, int[] columns, int[] distances) {
+            this.starts = starts;
+            this.columns = columns;
+            this.distances = distances;
+        }
+
+        private static Buckets collect(int size, UpwardSpace[] spaces) {
+            int[] starts = new int[size + 1];
+            for (UpwardSpace space : spaces) {
+                for (int station : space.stations) {
+                    starts[station + 1]++;
+                }
+            }
+            for (int station = 0; station < size; station++) {
+                starts[station + 1] += starts[station];
+            }
+
+            int[] cursors = Arrays.copyOf(starts, size);
+            int[] columns = new int[starts[size]];
+            int[] distances = new int[starts[size]];
+            for (int column = 0; column < spaces.length; column++) {
+                UpwardSpace space = spaces[column];
+                for (int i = 0; i < space.stations.length; i++) {
+                    int entry = cursors[space.stations[i]]++;
+                    columns[entry] = column;
+                    distances[entry] = space.distances[i];
+                }
+            }
+            return new Buckets(starts, columns, distances);
+        }
+
+        private void scan(UpwardSpace space, int[] table, int offset) {
+            for (int i = 0; i < space.stations.length; i++) {
+                int station = space.stations[i];
+                int base = space.distances[i];
+                for (int entry = starts[station]; entry < starts[station + 1]; entry++) {
+                    int cell = offset + columns[entry];
+                    int distance = base + distances[entry];
+                    if (distance < table[cell]) {
+                        table[cell] = distance;
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Contraction {
+        private final int size;
+        private final int[][] targets;
+        private final int[][] weights;
+        private final int[][] middles;
+        private final int[] degrees;
+        private final int[] contractedNeighbours;
+        private final int[] priorities;
+        private final int[] levels;
+        private final int[] neighbourMarks;
+        private int mark;
+
+        private final int[] ranks;
+        private final int[] arcStarts;
+        private final int[] arcEnds;
+        private int[] arcSources = new int[16];
+        private int[] arcTargets = new int[16];
+        private int[] arcWeights = new int[16];
+        private int[] arcMiddles = new int[16];
+        private int arcCount;
+        private int shortcutCount;
+
+        private Contraction(SubwayGraph graph) {
+            size = graph.size();
+            targets = new int[size][];
+            weights = new int[size][];
+            middles = new int[size][];
+            degrees = new int[size];
+            contractedNeighbours = new int[size];
+            priorities = new int[size];
+            levels = new int[size];
+            neighbourMarks = new int[size];
+            ranks = new int[size];
+            Arrays.fill(ranks, NONE);
+            arcStarts = new int[size];
+            arcEnds = new int[size];
+
+            for (int station = 0; station < size; station++) {
+                int degree = graph.offsets[station + 1] - graph.offsets[station];
+                targets[station] = new int[Math.max(degree, 1)];
+                weights[station] = new int[Math.max(degree, 1)];
+                middles[station] = new int[Math.max(degree, 1)];
+            }
+            for (int station = 0; station < size; station++) {
+                for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                    int neighbour = graph.neighbours[edge];
+                    if (neighbour != station) {
+                        connect(station, neighbour, graph.weights[edge], NONE);
+                    }
+                }
+            }
+        }
+
+        private void run() {
+            PriorityQueue<Long> queue = new PriorityQueue<>();
+            for (int station = 0; station < size; station++) {
+                priorities[station] = priority(station);
+                queue.add(entry(station));
+            }
+
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                long entry = queue.poll();
+                int station = (int) entry;
+                if (ranks[station] != NONE || priorities[station] != (int) ((entry >> 32) - PRIORITY_OFFSET)) {
+                    continue;
+                }
+
+                // 이웃이 축약되면서 우선순위가 올랐을 수 있으므로 다시 계산해 보고, 다음 역보다 나빠졌으면 미룬다.
+                int current = priority(station);
+                if (current != priorities[station]) {
+                    priorities[station] = current;
+                    if (!queue.isEmpty() && current > (int) ((queue.peek() >> 32) - PRIORITY_OFFSET)) {
+                        queue.add(entry(station));
+                        continue;
+                    }
+                }
+
+                contract(station, false);
+                recordUpwardArcs(station);
+                ranks[station] = rank++;
+
+                for (int i = 0; i < degrees[station]; i++) {
+                    int neighbour = targets[station][i];
+                    disconnect(neighbour, station);
+                    contractedNeighbours[neighbour]++;
+                    levels[neighbour] = Math.max(levels[neighbour], levels[station] + 1);
+                }
+                for (int i = 0; i < degrees[station]; i++) {
+                    int neighbour = targets[station][i];
+                    priorities[neighbour] = priority(neighbour);
+                    queue.add(entry(neighbour));
+                }
+            }
+        }
+
+        private long entry(int station) {
+            return (priorities[station] + PRIORITY_OFFSET) << 32 | station;
+        }
+
+        /*
+         * 축약하면 늘어나는 간선 수를 기준으로 하되, 이미 축약된 이웃 수와 계층의 깊이를 더해
+         * 노선도 전체에 고르게 축약되고 계층이 얕아지도록 한다.
+         */
+        private int priority(int station) {
+            int shortcuts = contract(station, true);
+            return 2 * (shortcuts - degrees[station]) + contractedNeighbours[station] + levels[station];
+        }
+
+        /*
+         * station 을 거치지 않는 같은 거리 이하의 길(witness)이 없는 이웃 쌍마다 지름길을 넣는다.
+         * witness 탐색은 확정하는 역 수를 제한하므로, 찾지 못하면 필요 없는 지름길이 들어갈 수 있지만 결과는 정확하다.
+         */
+        private int contract(int station, boolean simulate) {
+            int shortcuts = 0;
+            int maxWeight = 0;
+            mark++;
+            for (int i = 0; i < degrees[station]; i++) {
+                maxWeight = Math.max(maxWeight, weights[station][i]);
+                neighbourMarks[targets[station][i]] = mark;
+            }
+
+            for (int i = 0; i < degrees[station]; i++) {
+                int from = targets[station][i];
+                int fromWeight = weights[station][i];
+                SearchState witness = searchWitness(from, station, fromWeight + maxWeight, degrees[station] - 1,
+                        simulate ? SIMULATION_SETTLE_LIMIT : WITNESS_SETTLE_LIMIT);
+
+                for (int j = i + 1; j < degrees[station]; j++) {
+                    int to = targets[station][j];
+                    int viaStation = fromWeight + weights[station][j];
+                    if (witness.distance(to) <= viaStation) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (!simulate) {
+                        connect(from, to, viaStation, station);
+                        connect(to, from, viaStation, station);
+                        shortcutCount++;
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        /* 축약할 역의 다른 이웃이 모두 확정되거나, 거리 제한이나 확정 역 수 제한에 닿으면 멈춘다. */
+        private SearchState searchWitness(int source, int excluded, int maxDistance, int targetCount, int settleLimit) {
+            SearchState state = SearchState.forward(size);
+            IndexedMinHeap queue = state.heap();
+            state.reach(source, 0, source);
+            queue.offer(source, 0);
+
+            int settled = 0;
+            int remaining = targetCount;
+            while (!queue.isEmpty() && remaining > 0 && settled++ < settleLimit) {
+                int station = queue.poll();
+                int base = state.distance(station);
+                if (base > maxDistance) {
+                    break;
+                }
+                state.settle(station);
+                if (station != source && neighbourMarks[station] == mark) {
+                    remaining--;
+                }
+
+                for (int i = 0; i < degrees[station]; i++) {
+                    int neighbour = targets[station][i];
+                    if (neighbour == excluded || state.isSettled(neighbour)) {
+                        continue;
+                    }
+                    int distance = base + weights[station][i];
+                    if (distance < state.distance(neighbour)) {
+                        state.reach(neighbour, distance, station);
+                        queue.offer(neighbour, distance);
+                    }
+                }
+            }
+            return state;
+        }
+
+        /* 이미 이어진 역이면 더 짧을 때만 바꾼다. */
+        private void connect(int station, int neighbour, int weight, int middle) {
+            for (int i = 0; i < degrees[station]; i++) {
+                if (targets[station][i] == neighbour) {
+                    if (weight < weights[station][i]) {
+                        weights[station][i] = weight;
+                        middles[station][i] = middle;
+                    }
+                    return;
+                }
+            }
+
+            int degree = degrees[station]++;
+            if (degree == targets[station].length) {
+                targets[station] = Arrays.copyOf(targets[station], degree * 2);
+                weights[station] = Arrays.copyOf(weights[station], degree * 2);
+                middles[station] = Arrays.copyOf(middles[station], degree * 2);
+            }
+            targets[station][degree] = neighbour;
+            weights[station][degree] = weight;
+            middles[station][degree] = middle;
+        }
+
+        private void disconnect(int station, int neighbour) {
+            int last = --degrees[station];
+            for (int i = 0; i <= last; i++) {
+                if (targets[station][i] == neighbour) {
+                    targets[station][i] = targets[station][last];
+                    weights[station][i] = weights[station][last];
+                    middles[station][i] = middles[station][last];
+                    return;
+                }
+            }
+        }
+
+        /* 남은 이웃은 모두 이 역보다 나중에 축약되므로, 지금 남은 간선이 이 역의 위로 가는 간선이다. */
+        private void recordUpwardArcs(int station) {
+            arcStarts[station] = arcCount;
+            for (int i = 0; i < degrees[station]; i++) {
+                int neighbour = targets[station][i];
+                if (arcCount == arcTargets.length) {
+                    arcSources = Arrays.copyOf(arcSources, arcCount * 2);
+                    arcTargets = Arrays.copyOf(arcTargets, arcCount * 2);
+                    arcWeights = Arrays.copyOf(arcWeights, arcCount * 2);
+                    arcMiddles = Arrays.copyOf(arcMiddles, arcCount * 2);
+                }
+                arcSources[arcCount] = station;
+                arcTargets[arcCount] = neighbour;
+                arcWeights[arcCount] = weights[station][i];
+                arcMiddles[arcCount] = middles[station][i];
+                arcCount++;
+            }
+            arcEnds[station] = arcCount;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+
+/*
+ * 정수 배열로 된 그래프 위에서 동작하는 다익스트라 탐색
+ * 탐색 상태는 스레드마다 재사용하므로, 탐색 중에는 결과 경로 외에 새로 할당하는 객체가 없다.
+ * 구간 거리의 최댓값이 작으면 이진 힙 대신 버킷 큐를 써서 비교 없이 가장 가까운 역을 꺼낸다.
+ */
+public class Dijkstra implements ShortestPathSearch {
+    private final SubwayGraph graph;
+    private final QueueType queueType;
+
+    public Dijkstra(SubwayGraph graph) {
+        this(graph, QueueType.AUTO);
+    }
+
+    private Dijkstra(SubwayGraph graph, QueueType queueType) {
+        this.graph = graph;
+        this.queueType = queueType;
+    }
+
+    public static Dijkstra withBinaryHeap(SubwayGraph graph) {
+        return new Dijkstra(graph, QueueType.BINARY_HEAP);
+    }
+
+    public static Dijkstra withBucketQueue(SubwayGraph graph) {
+        return new Dijkstra(graph, QueueType.BUCKET_QUEUE);
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        SearchState state = SearchState.forward(graph.size());
+        StationQueue queue = createQueue(state);
+
+        state.reach(source, 0, source);
+        queue.offer(source, 0);
+
+        while (!queue.isEmpty()) {
+            int station = queue.poll();
+            if (station == target) {
+                return ShortestPath.trace(state.predecessors(), target, state.distance(target));
+            }
+            state.settle(station);
+
+            int base = state.distance(station);
+            for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                int neighbour = graph.neighbours[edge];
+                if (state.isSettled(neighbour)) {
+                    continue;
+                }
+
+                int distance = base + graph.weights[edge];
+                if (distance < state.distance(neighbour)) {
+                    state.reach(neighbour, distance, station);
+                    queue.offer(neighbour, distance);
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /* 한 번의 탐색으로 여러 도착역을 확정하고, 마지막 도착역이 확정되면 멈춘다. */
+    @Override
+    public ShortestPath[] findAll(int source, int[] targets) {
+        SearchState state = searchUntilSettled(source, targets);
+
+        ShortestPath[] paths = new ShortestPath[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            int target = targets[i];
+            paths[i] = state.isSettled(target)
+                    ? ShortestPath.trace(state.predecessors(), target, state.distance(target))
+                    : NOT_FOUND;
+        }
+        return paths;
+    }
+
+    /*
+     * 출발역과 도착역 중 적은 쪽의 역마다 한 번씩 여러 도착역 탐색을 하므로, 탐색 횟수는 min(N, M) 이다.
+     * 그래프가 무방향이므로 도착역에서 출발역들로 탐색한 거리는 열을 채운다. 탐색끼리는 독립적이어서 병렬로 실행한다.
+     */
+    @Override
+    public int[] distanceTable(int[] sources, int[] targets) {
+        int[] table = new int[sources.length * targets.length];
+        if (sources.length <= targets.length) {
+            IntStream.range(0, sources.length).parallel()
+                    .forEach(row -> fillDistances(sources[row], targets, table, row * targets.length, 1));
+        } else {
+            IntStream.range(0, targets.length).parallel()
+                    .forEach(column -> fillDistances(targets[column], sources, table, column, targets.length));
+        }
+        return table;
+    }
+
+    private void fillDistances(int root, int[] others, int[] table, int offset, int stride) {
+        SearchState state = searchUntilSettled(root, others);
+        for (int i = 0; i < others.length; i++) {
+            table[offset + i * stride] = state.isSettled(others[i]) ? state.distance(others[i]) : INFINITY;
+        }
+    }
+
+    private SearchState searchUntilSettled(int source, int[] targets) {
+        // 다른 연결 요소의 도착역은 확정될 수 없으므로 기다리지 않는다.
+        int[] sortedTargets = Arrays.stream(targets)
+                .filter(target -> graph.isConnected(source, target))
+                .distinct()
+                .sorted()
+                .toArray();
+        int remaining = sortedTargets.length;
+
+        SearchState state = SearchState.forward(graph.size());
+        StationQueue queue = createQueue(state);
+
+        state.reach(source, 0, source);
+        queue.offer(source, 0);
+
+        while (!queue.isEmpty() && remaining > 0) {
+            int station = queue.poll();
+            state.settle(station);
+            if (Arrays.binarySearch(sortedTargets, station) >= 0) {
+                remaining--;
+            }
+
+            int base = state.distance(station);
+            for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                int neighbour = graph.neighbours[edge];
+                int distance = base + graph.weights[edge];
+                if (!state.isSettled(neighbour) && distance < state.distance(neighbour)) {
+                    state.reach(neighbour, distance, station);
+                    queue.offer(neighbour, distance);
+                }
+            }
+        }
+        return state;
+    }
+
+    /*
+     * source 에서 maxDistance 안에 있는 역만 확정한다.
+     * 큐의 가장 가까운 역이 제한을 넘으면 멈추므로, 확정하는 역은 결과에 담기는 역과 같고 그 이웃까지만 살펴본다.
+     */
+    public ReachableStations searchWithin(int source, int maxDistance) {
+        SearchState state = SearchState.forward(graph.size());
+        StationQueue queue = createQueue(state);
+
+        state.reach(source, 0, source);
+        queue.offer(source, 0);
+
+        PathBuilder stations = new PathBuilder();
+        PathBuilder distances = new PathBuilder();
+        PathBuilder predecessors = new PathBuilder();
+        while (!queue.isEmpty() && queue.peekDistance() <= maxDistance) {
+            int station = queue.poll();
+            state.settle(station);
+
+            int base = state.distance(station);
+            stations.add(station);
+            distances.add(base);
+            predecessors.add(state.predecessors()[station]);
+            for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                int neighbour = graph.neighbours[edge];
+                int distance = base + graph.weights[edge];
+                if (distance <= maxDistance && !state.isSettled(neighbour) && distance < state.distance(neighbour)) {
+                    state.reach(neighbour, distance, station);
+                    queue.offer(neighbour, distance);
+                }
+            }
+        }
+        return new ReachableStations(stations.toArray(), distances.toArray(), predecessors.toArray());
+    }
+
+    /* source 를 뿌리로 하는 최단 경로 트리, 탐색 상태와 달리 스레드 사이에 공유할 수 있다. */
+    public ShortestPathTree treeFrom(int source) {
+        SearchState state = searchAll(source);
+        int[] distances = new int[graph.size()];
+        int[] predecessors = new int[graph.size()];
+        int[] statePredecessors = state.predecessors();
+        for (int station = 0; station < distances.length; station++) {
+            distances[station] = state.distance(station);
+            predecessors[station] = distances[station] == INFINITY ? station : statePredecessors[station];
+        }
+        return new ShortestPathTree(source, distances, predecessors);
+    }
+
+    /* source 에서 모든 역까지의 최단 거리, 이어지지 않은 역은 INFINITY 이다. */
+    int[] distancesFrom(int source) {
+        SearchState state = searchAll(source);
+        int[] distances = new int[graph.size()];
+        for (int station = 0; station < distances.length; station++) {
+            distances[station] = state.distance(station);
+        }
+        return distances;
+    }
+
+    /* source 에서 이어진 모든 역을 확정한 탐색 상태, 같은 스레드에서 다음 탐색을 하기 전까지만 유효하다. */
+    SearchState searchAll(int source) {
+        SearchState state = SearchState.forward(graph.size());
+        StationQueue queue = createQueue(state);
+
+        state.reach(source, 0, source);
+        queue.offer(source, 0);
+
+        while (!queue.isEmpty()) {
+            int station = queue.poll();
+            state.settle(station);
+
+            int base = state.distance(station);
+            for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+                int neighbour = graph.neighbours[edge];
+                int distance = base + graph.weights[edge];
+                if (!state.isSettled(neighbour) && distance < state.distance(neighbour)) {
+                    state.reach(neighbour, distance, station);
+                    queue.offer(neighbour, distance);
+                }
+            }
+        }
+        return state;
+    }
+
+    private StationQueue createQueue(SearchState state) {
+        switch (queueType) {
+            case BINARY_HEAP:
+                return state.heap();
+            case BUCKET_QUEUE:
+                return state.buckets(graph.maxWeight());
+            default:
+                return state.queueFor(graph);
+        }
+    }
+
+    private enum QueueType {
+        AUTO, BINARY_HEAP, BUCKET_QUEUE
+    }
+}
@@ -0,0 +1,149 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionEdge;
+import nextstep.subway.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 구간을 하나씩 받아 SubwayGraph 를 만든다. */
+public class GraphBuilder {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Station> stations = new ArrayList<>();
+    private final Map<Long, Integer> indexes = new HashMap<>();
+    private int[] ups = new int[INITIAL_CAPACITY];
+    private int[] downs = new int[INITIAL_CAPACITY];
+    private int[] distances = new int[INITIAL_CAPACITY];
+    private int sectionSize;
+    // 노선마다 순서대로 넣은 구간의 [시작, 끝) 위치
+    private int[] lineBounds = new int[INITIAL_CAPACITY];
+    private int lineSize;
+
+    public GraphBuilder addSection(Station upStation, Station downStation, int distance) {
+        ensureCapacity();
+        ups[sectionSize] = register(upStation);
+        downs[sectionSize] = register(downStation);
+        distances[sectionSize] = distance;
+        sectionSize++;
+        return this;
+    }
+
+    /* 상행 종점부터 순서대로 이어진 한 노선의 구간들을 넣는다. */
+    public GraphBuilder addLine(List<Section> orderedSections) {
+        if (orderedSections.isEmpty()) {
+            return this;
+        }
+        beginLine();
+        orderedSections.forEach(section -> addSection(section.getUpStation(), section.getDownStation(), section.getDistance()));
+        endLine();
+        return this;
+    }
+
+    /* 상행 종점부터 순서대로 이어진 한 노선의 구간 값들을 넣는다. */
+    public GraphBuilder addLineEdges(List<SectionEdge> orderedEdges) {
+        if (orderedEdges.isEmpty()) {
+            return this;
+        }
+        beginLine();
+        orderedEdges.forEach(edge -> addSection(edge.getUpStation(), edge.getDownStation(), edge.getDistance()));
+        endLine();
+        return this;
+    }
+
+    private void beginLine() {
+        if (lineSize * 2 + 2 > lineBounds.length) {
+            lineBounds = Arrays.copyOf(lineBounds, lineBounds.length * 2);
+        }
+        lineBounds[lineSize * 2] = sectionSize;
+    }
+
+    private void endLine() {
+        lineBounds[lineSize * 2 + 1] = sectionSize;
+        lineSize++;
+    }
+
+    public SubwayGraph build() {
+        int stationSize = stations.size();
+        int[] offsets = new int[stationSize + 1];
+        for (int i = 0; i < sectionSize; i++) {
+            offsets[ups[i] + 1]++;
+            offsets[downs[i] + 1]++;
+        }
+        for (int v = 0; v < stationSize; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // 구간은 양방향으로 이동할 수 있으므로 상행, 하행 양쪽에 간선을 하나씩 넣는다.
+        int[] neighbours = new int[sectionSize * 2];
+        int[] weights = new int[sectionSize * 2];
+        int[] cursors = Arrays.copyOf(offsets, stationSize);
+        for (int i = 0; i < sectionSize; i++) {
+            int up = ups[i];
+            int down = downs[i];
+            neighbours[cursors[up]] = down;
+            weights[cursors[up]++] = distances[i];
+            neighbours[cursors[down]] = up;
+            weights[cursors[down]++] = distances[i];
+        }
+
+        return new SubwayGraph(stations.toArray(new Station[0]), new HashMap<>(indexes), offsets, neighbours, weights,
+                buildComponents(stationSize), buildLineSequences(stationSize));
+    }
+
+    private int[] buildComponents(int stationSize) {
+        UnionFind components = new UnionFind(stationSize);
+        for (int i = 0; i < sectionSize; i++) {
+            components.union(ups[i], downs[i]);
+        }
+        return components.labels();
+    }
+
+    private LineSequences buildLineSequences(int stationSize) {
+        int[] lineStarts = new int[lineSize + 1];
+        for (int line = 0; line < lineSize; line++) {
+            lineStarts[line + 1] = lineStarts[line] + lineBounds[line * 2 + 1] - lineBounds[line * 2] + 1;
+        }
+
+        // 노선의 역 순서는 구간의 상행역을 차례로 잇고 마지막 구간의 하행역을 붙인 것이다.
+        int[] lineStations = new int[lineStarts[lineSize]];
+        int[] prefixDistances = new int[lineStarts[lineSize]];
+        for (int line = 0; line < lineSize; line++) {
+            int position = lineStarts[line];
+            int last = lineBounds[line * 2 + 1] - 1;
+            for (int section = lineBounds[line * 2]; section <= last; section++) {
+                lineStations[position] = ups[section];
+                prefixDistances[position + 1] = prefixDistances[position] + distances[section];
+                position++;
+            }
+            lineStations[position] = downs[last];
+        }
+        return new LineSequences(stationSize, lineStarts, lineStations, prefixDistances);
+    }
+
+    private int register(Station station) {
+        Integer index = indexes.get(station.getId());
+        if (index != null) {
+            return index;
+        }
+
+        int newIndex = stations.size();
+        stations.add(station);
+        indexes.put(station.getId(), newIndex);
+        return newIndex;
+    }
+
+    private void ensureCapacity() {
+        if (sectionSize < ups.length) {
+            return;
+        }
+        int capacity = ups.length * 2;
+        ups = Arrays.copyOf(ups, capacity);
+        downs = Arrays.copyOf(downs, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+    }
+}
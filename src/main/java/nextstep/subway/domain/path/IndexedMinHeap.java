@@ -0,0 +1,104 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/*
+ * 역 인덱스를 키 순서로 꺼내는 이진 최소 힙으로, 이미 들어있는 역의 키를 줄일 수 있다.
+ * positions 는 초기화하지 않고 heap[positions[v]] == v 인지로 포함 여부를 판단하므로, 비우는 비용이 들지 않는다.
+ */
+class IndexedMinHeap implements StationQueue {
+    private int[] heap = new int[0];
+    private int[] positions = new int[0];
+    private int[] keys = new int[0];
+    private int size;
+
+    void ensureCapacity(int capacity) {
+        if (heap.length >= capacity) {
+            return;
+        }
+        heap = Arrays.copyOf(heap, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int peekDistance() {
+        return keys[heap[0]];
+    }
+
+    boolean contains(int station) {
+        int position = positions[station];
+        return position < size && heap[position] == station;
+    }
+
+    @Override
+    public void offer(int station, int key) {
+        keys[station] = key;
+        if (contains(station)) {
+            siftUp(positions[station]);
+            return;
+        }
+        heap[size] = station;
+        positions[station] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public int poll() {
+        int min = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            place(last, 0);
+            siftDown(0);
+        }
+        // 꺼낸 역이 다시 포함된 것으로 보이지 않도록 위치를 힙 바깥으로 둔다.
+        positions[min] = Integer.MAX_VALUE;
+        return min;
+    }
+
+    private void siftUp(int position) {
+        int station = heap[position];
+        int key = keys[station];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(station, position);
+    }
+
+    private void siftDown(int position) {
+        int station = heap[position];
+        int key = keys[station];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(station, position);
+    }
+
+    private void place(int station, int position) {
+        heap[position] = station;
+        positions[station] = position;
+    }
+}
@@ -0,0 +1,83 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+
+/*
+ * 몇 개의 기준역(landmark)에서 모든 역까지의 최단 거리를 미리 구해 두고, 삼각 부등식으로 두 역 사이 거리의 하한을 구한다.
+ * 기준역은 이미 고른 기준역들에서 가장 먼 역을 차례로 고르므로 그래프의 가장자리에 고르게 퍼진다.
+ * 거리는 역마다 기준역 수만큼 이어서 저장하므로, 메모리는 기준역 수 x 역 수 개의 int 로 정해진다.
+ */
+public class Landmarks {
+    public static final int DEFAULT_COUNT = 16;
+
+    private final int count;
+    private final int[] distances;
+
+    private Landmarks(int count, int[] distances) {
+        this.count = count;
+        this.distances = distances;
+    }
+
+    public static Landmarks select(SubwayGraph graph) {
+        return select(graph, DEFAULT_COUNT);
+    }
+
+    public static Landmarks select(SubwayGraph graph, int maxCount) {
+        int size = graph.size();
+        int count = Math.min(maxCount, size);
+        int[] distances = new int[size * count];
+        if (count == 0) {
+            return new Landmarks(0, distances);
+        }
+
+        Dijkstra dijkstra = new Dijkstra(graph);
+        // 역마다 가장 가까운 기준역까지의 거리, 어느 기준역과도 이어지지 않은 역은 INFINITY 로 남아 먼저 골린다.
+        int[] nearest = new int[size];
+        Arrays.fill(nearest, INFINITY);
+        int landmark = farthest(dijkstra.distancesFrom(0));
+
+        for (int i = 0; i < count; i++) {
+            int[] fromLandmark = dijkstra.distancesFrom(landmark);
+            for (int station = 0; station < size; station++) {
+                distances[station * count + i] = fromLandmark[station];
+                nearest[station] = Math.min(nearest[station], fromLandmark[station]);
+            }
+            landmark = farthest(nearest);
+        }
+        return new Landmarks(count, distances);
+    }
+
+    /* 거리가 가장 먼 역, 이어지지 않은 역이 있으면 그 역을 고른다. */
+    private static int farthest(int[] distances) {
+        int farthest = 0;
+        for (int station = 1; station < distances.length; station++) {
+            if (distances[station] > distances[farthest]) {
+                farthest = station;
+            }
+        }
+        return farthest;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /* 역 station 에서 target 까지 거리의 하한 */
+    int lowerBound(int station, int target) {
+        int bound = 0;
+        int stationRow = station * count;
+        int targetRow = target * count;
+        for (int i = 0; i < count; i++) {
+            int fromStation = distances[stationRow + i];
+            int fromTarget = distances[targetRow + i];
+            // 기준역과 이어지지 않은 역이 있으면 이 기준역으로는 하한을 구할 수 없다.
+            if (fromStation == INFINITY || fromTarget == INFINITY) {
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(fromStation - fromTarget));
+        }
+        return bound;
+    }
+}
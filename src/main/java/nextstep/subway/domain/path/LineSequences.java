@@ -0,0 +1,52 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/*
+ * 노선마다 상행 종점부터 하행 종점까지의 역 순서와 누적 거리
+ * 노선 line 의 역은 stations, prefixDistances 의 [lineStarts[line], lineStarts[line + 1]) 구간에 있고,
+ * 같은 노선의 두 위치 사이 거리는 누적 거리의 차이다.
+ * 역마다 그 역이 놓인 위치들을 [positionOffsets[v], positionOffsets[v + 1]) 구간에 모아 둔다.
+ */
+class LineSequences {
+    final int[] lineStarts;
+    final int[] stations;
+    final int[] prefixDistances;
+    final int[] lines;
+    final int[] positionOffsets;
+    final int[] positions;
+
+    LineSequences(int stationSize, int[] lineStarts, int[] stations, int[] prefixDistances) {
+        this.lineStarts = lineStarts;
+        this.stations = stations;
+        this.prefixDistances = prefixDistances;
+
+        this.lines = new int[stations.length];
+        for (int line = 0; line + 1 < lineStarts.length; line++) {
+            for (int position = lineStarts[line]; position < lineStarts[line + 1]; position++) {
+                lines[position] = line;
+            }
+        }
+
+        this.positionOffsets = new int[stationSize + 1];
+        for (int station : stations) {
+            positionOffsets[station + 1]++;
+        }
+        for (int station = 0; station < stationSize; station++) {
+            positionOffsets[station + 1] += positionOffsets[station];
+        }
+        this.positions = new int[stations.length];
+        int[] cursors = Arrays.copyOf(positionOffsets, stationSize);
+        for (int position = 0; position < stations.length; position++) {
+            positions[cursors[stations[position]]++] = position;
+        }
+    }
+
+    int lineSize() {
+        return lineStarts.length - 1;
+    }
+
+    int distanceBetween(int position, int other) {
+        return Math.abs(prefixDistances[other] - prefixDistances[position]);
+    }
+}
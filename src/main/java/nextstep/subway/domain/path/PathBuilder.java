@@ -0,0 +1,28 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/* 길이를 미리 알 수 없는 경로를 역 인덱스로 이어 붙인다. */
+class PathBuilder {
+    private int[] values = new int[16];
+    private int size;
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,30 @@
+package nextstep.subway.domain.path;
+
+/* 거리 제한 안에서 확정된 역과 거리, 바로 앞 역을 가까운 순서로 담는다. */
+public class ReachableStations {
+    private final int[] stations;
+    private final int[] distances;
+    private final int[] predecessors;
+
+    ReachableStations(int[] stations, int[] distances, int[] predecessors) {
+        this.stations = stations;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public int stationAt(int order) {
+        return stations[order];
+    }
+
+    public int distanceAt(int order) {
+        return distances[order];
+    }
+
+    public int predecessorAt(int order) {
+        return predecessors[order];
+    }
+}
@@ -0,0 +1,60 @@
+package nextstep.subway.domain.path;
+
+/*
+ * 같은 노선 위의 두 역 사이 경로를 누적 거리의 차이로 바로 구한다.
+ * 노선을 따라가는 길이 최단 경로가 아닐 수도 있으므로, 그래프를 만들 때 노선의 위치마다 노선을 따라가는 길이 최단 경로로 남는
+ * 가장 먼 위치(reach)를 구해 두고 그 안에 있는 경우에만 답한다.
+ * 최단 경로의 일부도 최단 경로이므로 reach 는 위치가 뒤로 갈수록 줄지 않고, 노선마다 두 포인터로 역 수의 두 배 이하의 탐색만으로 구한다.
+ */
+public class SameLineShortcut {
+    private final LineSequences sequences;
+    private final int[] reaches;
+
+    public SameLineShortcut(SubwayGraph graph, ShortestPathSearch search) {
+        this.sequences = graph.lineSequences();
+        this.reaches = new int[sequences.stations.length];
+        for (int line = 0; line < sequences.lineSize(); line++) {
+            measureReaches(search, sequences.lineStarts[line], sequences.lineStarts[line + 1]);
+        }
+    }
+
+    private void measureReaches(ShortestPathSearch search, int start, int end) {
+        int reach = start;
+        for (int position = start; position < end; position++) {
+            reach = Math.max(reach, position);
+            while (reach + 1 < end && isShortest(search, position, reach + 1)) {
+                reach++;
+            }
+            reaches[position] = reach;
+        }
+    }
+
+    private boolean isShortest(ShortestPathSearch search, int position, int other) {
+        ShortestPath path = search.find(sequences.stations[position], sequences.stations[other]);
+        return path != ShortestPathSearch.NOT_FOUND && path.getDistance() == sequences.distanceBetween(position, other);
+    }
+
+    /* 두 역이 함께 놓인 노선 중 노선을 따라가는 길이 최단 경로임이 확인된 노선이 있으면 그 경로를, 없으면 NOT_FOUND 를 반환한다. */
+    public ShortestPath find(int source, int target) {
+        for (int i = sequences.positionOffsets[source]; i < sequences.positionOffsets[source + 1]; i++) {
+            int sourcePosition = sequences.positions[i];
+            for (int j = sequences.positionOffsets[target]; j < sequences.positionOffsets[target + 1]; j++) {
+                int targetPosition = sequences.positions[j];
+                if (sequences.lines[sourcePosition] == sequences.lines[targetPosition]
+                        && reaches[Math.min(sourcePosition, targetPosition)] >= Math.max(sourcePosition, targetPosition)) {
+                    return new ShortestPath(slice(sourcePosition, targetPosition), sequences.distanceBetween(sourcePosition, targetPosition));
+                }
+            }
+        }
+        return ShortestPathSearch.NOT_FOUND;
+    }
+
+    private int[] slice(int from, int to) {
+        int[] stations = new int[Math.abs(to - from) + 1];
+        int step = from < to ? 1 : -1;
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = sequences.stations[from + i * step];
+        }
+        return stations;
+    }
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.domain.path;
+
+import java.util.function.Function;
+
+/* 경로 탐색에 쓸 알고리즘 */
+public enum SearchMode {
+    DIJKSTRA(Dijkstra::new),
+    BIDIRECTIONAL(BidirectionalDijkstra::new),
+    // 환승역과 종점만 남긴 그래프에서 양방향으로 탐색한다.
+    CHAIN_BIDIRECTIONAL(ChainContraction::new),
+    // 그래프를 만들 때 기준역까지의 거리를 함께 구해 둔다.
+    ALT(AStar::new),
+    // 전처리가 가장 오래 걸리고 색인이 가장 크지만, 큰 노선도에서 탐색이 가장 빠르다.
+    CONTRACTION_HIERARCHY(ContractionHierarchy::new),
+    ;
+
+    private final Function<SubwayGraph, ShortestPathSearch> factory;
+
+    SearchMode(Function<SubwayGraph, ShortestPathSearch> factory) {
+        this.factory = factory;
+    }
+
+    public ShortestPathSearch create(SubwayGraph graph) {
+        return factory.apply(graph);
+    }
+}
@@ -0,0 +1,106 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/*
+ * 탐색에 필요한 배열을 스레드마다 하나씩 두고 재사용한다.
+ * 탐색마다 세대(generation)를 올리고, 배열의 값은 같은 세대에 기록된 것만 유효한 것으로 보므로 매번 초기화하지 않는다.
+ */
+final class SearchState {
+    static final int INFINITY = Integer.MAX_VALUE;
+    static final int BUCKET_QUEUE_MAX_WEIGHT = 1024;
+
+    private static final ThreadLocal<SearchState> FORWARD_STATES = ThreadLocal.withInitial(SearchState::new);
+    private static final ThreadLocal<SearchState> BACKWARD_STATES = ThreadLocal.withInitial(SearchState::new);
+
+    private int[] distances = new int[0];
+    private int[] predecessors = new int[0];
+    private int[] reached = new int[0];
+    private int[] settled = new int[0];
+    private int generation;
+    private int size;
+
+    private final IndexedMinHeap heap = new IndexedMinHeap();
+    private final BucketQueue buckets = new BucketQueue();
+
+    static SearchState forward(int size) {
+        return prepare(FORWARD_STATES.get(), size);
+    }
+
+    /* 양방향 탐색에서 도착역부터 거슬러 가는 쪽이 쓰는 상태 */
+    static SearchState backward(int size) {
+        return prepare(BACKWARD_STATES.get(), size);
+    }
+
+    private static SearchState prepare(SearchState state, int size) {
+        state.prepare(size);
+        return state;
+    }
+
+    private void prepare(int size) {
+        if (distances.length < size) {
+            distances = new int[size];
+            predecessors = new int[size];
+            reached = new int[size];
+            settled = new int[size];
+            generation = 0;
+        }
+        this.size = size;
+
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(reached, 0);
+            Arrays.fill(settled, 0);
+            generation = 1;
+        }
+    }
+
+    IndexedMinHeap heap() {
+        heap.ensureCapacity(size);
+        heap.clear();
+        return heap;
+    }
+
+    BucketQueue buckets(int maxWeight) {
+        buckets.ensureCapacity(size, maxWeight);
+        buckets.clear();
+        return buckets;
+    }
+
+    /* 구간 거리의 최댓값이 작으면 버킷 큐를, 아니면 이진 힙을 쓴다. */
+    StationQueue queueFor(SubwayGraph graph) {
+        return queueFor(graph.maxWeight());
+    }
+
+    /* 한 번 꺼낸 역에서 이웃으로 갈 때 키가 최대 maxKeyStep 만큼 늘어나는 큐 */
+    StationQueue queueFor(int maxKeyStep) {
+        if (maxKeyStep <= BUCKET_QUEUE_MAX_WEIGHT) {
+            return buckets(maxKeyStep);
+        }
+        return heap();
+    }
+
+    int distance(int station) {
+        if (reached[station] != generation) {
+            return INFINITY;
+        }
+        return distances[station];
+    }
+
+    void reach(int station, int distance, int predecessor) {
+        reached[station] = generation;
+        distances[station] = distance;
+        predecessors[station] = predecessor;
+    }
+
+    void settle(int station) {
+        settled[station] = generation;
+    }
+
+    boolean isSettled(int station) {
+        return settled[station] == generation;
+    }
+
+    int[] predecessors() {
+        return predecessors;
+    }
+}
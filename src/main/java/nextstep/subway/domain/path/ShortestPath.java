@@ -0,0 +1,60 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/* 탐색된 경로를 역 인덱스의 배열과 총 거리로 나타낸다. */
+public class ShortestPath {
+    private final int[] stations;
+    private final int distance;
+
+    public ShortestPath(int[] stations, int distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    /* target 에서 predecessors 를 따라 자기 자신이 선행 역인 출발역까지 거슬러 올라가 경로를 만든다. */
+    static ShortestPath trace(int[] predecessors, int target, int distance) {
+        return new ShortestPath(traceStations(predecessors, target), distance);
+    }
+
+    private static int[] traceStations(int[] predecessors, int target) {
+        int length = 1;
+        for (int v = target; predecessors[v] != v; v = predecessors[v]) {
+            length++;
+        }
+
+        int[] stations = new int[length];
+        int v = target;
+        for (int i = length - 1; i >= 0; i--) {
+            stations[i] = v;
+            v = predecessors[v];
+        }
+        return stations;
+    }
+
+    /* 출발역에서 만난 역까지는 정방향 predecessors 를, 만난 역에서 도착역까지는 역방향 predecessors 를 따라 잇는다. */
+    static ShortestPath join(int[] forwardPredecessors, int[] backwardPredecessors, int meeting, int distance) {
+        int[] head = traceStations(forwardPredecessors, meeting);
+
+        int tailLength = 0;
+        for (int v = meeting; backwardPredecessors[v] != v; v = backwardPredecessors[v]) {
+            tailLength++;
+        }
+
+        int[] stations = Arrays.copyOf(head, head.length + tailLength);
+        int v = meeting;
+        for (int i = head.length; i < stations.length; i++) {
+            v = backwardPredecessors[v];
+            stations[i] = v;
+        }
+        return new ShortestPath(stations, distance);
+    }
+
+    public int[] getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
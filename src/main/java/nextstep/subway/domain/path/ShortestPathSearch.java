@@ -0,0 +1,32 @@
+package nextstep.subway.domain.path;
+
+public interface ShortestPathSearch {
+    ShortestPath NOT_FOUND = null;
+    int[] NOT_SUPPORTED = null;
+    int UNREACHABLE = SearchState.INFINITY;
+
+    /* 두 역 인덱스 사이의 최단 경로를 찾는다. 이어져 있지 않으면 NOT_FOUND 를 반환한다. */
+    ShortestPath find(int source, int target);
+
+    /* 한 출발역에서 여러 도착역까지의 최단 경로, 이어지지 않은 도착역 자리에는 NOT_FOUND 가 들어간다. */
+    default ShortestPath[] findAll(int source, int[] targets) {
+        ShortestPath[] paths = new ShortestPath[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            paths[i] = find(source, targets[i]);
+        }
+        return paths;
+    }
+
+    /*
+     * sources × targets 의 최단 거리를 행 우선으로 담은 표, 이어지지 않은 칸은 UNREACHABLE 이다.
+     * 여러 쌍을 한꺼번에 구하는 방법이 없는 탐색기는 NOT_SUPPORTED 를 반환한다.
+     */
+    default int[] distanceTable(int[] sources, int[] targets) {
+        return NOT_SUPPORTED;
+    }
+
+    /* 그래프를 새로 만들 때 남기는 탐색기 정보 */
+    default String summary() {
+        return getClass().getSimpleName();
+    }
+}
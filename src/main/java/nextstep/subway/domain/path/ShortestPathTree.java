@@ -0,0 +1,67 @@
+package nextstep.subway.domain.path;
+
+import static nextstep.subway.domain.path.SearchState.INFINITY;
+
+/*
+ * 한 역에서 이어진 모든 역까지의 최단 거리와 선행 역
+ * 무방향 그래프이므로 뿌리 역에서 나가는 경로뿐 아니라 뿌리 역으로 들어오는 경로도 선행 역을 따라 읽을 수 있다.
+ */
+public class ShortestPathTree {
+    private static final long BYTES_PER_STATION = Integer.BYTES * 2;
+
+    private final int root;
+    private final int[] distances;
+    private final int[] predecessors;
+
+    ShortestPathTree(int root, int[] distances, int[] predecessors) {
+        this.root = root;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public int root() {
+        return root;
+    }
+
+    public int size() {
+        return distances.length;
+    }
+
+    public boolean reaches(int station) {
+        return distances[station] != INFINITY;
+    }
+
+    public int distanceTo(int station) {
+        return distances[station];
+    }
+
+    /* 뿌리 역에서 station 으로 가는 길의 바로 앞 역, 뿌리 역은 자기 자신이다. */
+    public int predecessorOf(int station) {
+        return predecessors[station];
+    }
+
+    /* 뿌리 역에서 target 까지의 경로 */
+    public ShortestPath pathTo(int target) {
+        if (!reaches(target)) {
+            return ShortestPathSearch.NOT_FOUND;
+        }
+        return ShortestPath.trace(predecessors, target, distances[target]);
+    }
+
+    /* source 에서 뿌리 역까지의 경로, 선행 역을 따라가는 순서가 곧 경로의 순서이다. */
+    public ShortestPath pathFrom(int source) {
+        if (!reaches(source)) {
+            return ShortestPathSearch.NOT_FOUND;
+        }
+        PathBuilder path = new PathBuilder();
+        for (int station = source; station != root; station = predecessors[station]) {
+            path.add(station);
+        }
+        path.add(root);
+        return new ShortestPath(path.toArray(), distances[source]);
+    }
+
+    long bytes() {
+        return BYTES_PER_STATION * distances.length;
+    }
+}
@@ -0,0 +1,68 @@
+package nextstep.subway.domain.path;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 최근에 쓰인 최단 경로 트리를 뿌리 역 인덱스로 보관한다.
+ * 한 그래프 스냅샷에 딸려 있으므로 스냅샷이 교체되면 함께 버려지고, 다른 버전의 트리와 섞이지 않는다.
+ * 조회는 잠금 없이 접근 시각만 갱신하고, 트리를 넣을 때 크기가 maxBytes 를 넘으면 가장 오래 쓰이지 않은 트리부터 내보낸다.
+ */
+public class ShortestPathTreeCache {
+    private final long maxBytes;
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private long bytes;
+
+    public ShortestPathTreeCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /* 보관 중인 트리, 없으면 null 이다. */
+    public ShortestPathTree get(int root) {
+        Entry entry = entries.get(root);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.tree;
+    }
+
+    public synchronized void put(ShortestPathTree tree) {
+        if (maxBytes <= 0 || tree.bytes() > maxBytes || entries.containsKey(tree.root())) {
+            return;
+        }
+        entries.put(tree.root(), new Entry(tree, clock.incrementAndGet()));
+        bytes += tree.bytes();
+        while (bytes > maxBytes) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Integer eldest = null;
+        long eldestAccess = Long.MAX_VALUE;
+        for (Map.Entry<Integer, Entry> entry : entries.entrySet()) {
+            if (entry.getValue().lastAccess < eldestAccess) {
+                eldestAccess = entry.getValue().lastAccess;
+                eldest = entry.getKey();
+            }
+        }
+        bytes -= entries.remove(eldest).tree.bytes();
+    }
+
+    private static class Entry {
+        private final ShortestPathTree tree;
+        private volatile long lastAccess;
+
+        private Entry(ShortestPathTree tree, long lastAccess) {
+            this.tree = tree;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
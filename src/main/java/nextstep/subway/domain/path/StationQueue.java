@@ -0,0 +1,14 @@
+package nextstep.subway.domain.path;
+
+/* 다익스트라 탐색에서 거리가 가장 짧은 역부터 꺼내는 우선순위 큐 */
+interface StationQueue {
+    boolean isEmpty();
+
+    /* 가장 짧은 거리를 꺼내지 않고 확인한다. */
+    int peekDistance();
+
+    /* 큐에 없으면 넣고, 있으면 거리를 줄인다. */
+    void offer(int station, int distance);
+
+    int poll();
+}
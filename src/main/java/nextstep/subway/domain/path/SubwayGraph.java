@@ -0,0 +1,74 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Station;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/*
+ * 역을 0부터 시작하는 정수 인덱스로 바꾸어 구성한 무방향 그래프 (compressed sparse row)
+ * 역 v 에 연결된 간선은 neighbours, weights 배열의 [offsets[v], offsets[v + 1]) 구간에 들어있다.
+ * 한 번 만들어지면 바뀌지 않으므로 여러 스레드가 동시에 탐색해도 안전하다.
+ */
+public class SubwayGraph {
+    static final int NO_STATION = -1;
+
+    private final Station[] stations;
+    private final Map<Long, Integer> indexes;
+    final int[] offsets;
+    final int[] neighbours;
+    final int[] weights;
+    private final int maxWeight;
+    // 역마다 속한 연결 요소의 번호, 번호가 다른 두 역 사이에는 경로가 없다.
+    private final int[] components;
+    private final LineSequences lineSequences;
+
+    SubwayGraph(Station[] stations, Map<Long, Integer> indexes, int[] offsets, int[] neighbours, int[] weights,
+                int[] components, LineSequences lineSequences) {
+        this.stations = stations;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.weights = weights;
+        this.maxWeight = Arrays.stream(weights).max().orElse(0);
+        this.components = components;
+        this.lineSequences = lineSequences;
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public int edgeSize() {
+        return neighbours.length;
+    }
+
+    public int maxWeight() {
+        return maxWeight;
+    }
+
+    public boolean contains(Long stationId) {
+        return indexes.containsKey(stationId);
+    }
+
+    public int indexOf(Long stationId) {
+        Integer index = indexes.get(stationId);
+        if (index == null) {
+            return NO_STATION;
+        }
+        return index;
+    }
+
+    /* 두 역이 같은 연결 요소에 있어 경로가 있는지, 탐색 없이 바로 알 수 있다. */
+    public boolean isConnected(int station, int other) {
+        return components[station] == components[other];
+    }
+
+    public Station stationAt(int index) {
+        return stations[index];
+    }
+
+    LineSequences lineSequences() {
+        return lineSequences;
+    }
+}
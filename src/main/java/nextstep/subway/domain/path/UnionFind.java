@@ -0,0 +1,54 @@
+package nextstep.subway.domain.path;
+
+/* 서로 이어진 역을 하나의 집합으로 묶는다. 크기가 작은 쪽을 큰 쪽 아래에 붙이고, 찾는 동안 경로를 절반으로 줄인다. */
+class UnionFind {
+    private final int[] parents;
+    private final int[] sizes;
+
+    UnionFind(int size) {
+        this.parents = new int[size];
+        this.sizes = new int[size];
+        for (int element = 0; element < size; element++) {
+            parents[element] = element;
+            sizes[element] = 1;
+        }
+    }
+
+    void union(int element, int other) {
+        int root = find(element);
+        int otherRoot = find(other);
+        if (root == otherRoot) {
+            return;
+        }
+        if (sizes[root] < sizes[otherRoot]) {
+            int swap = root;
+            root = otherRoot;
+            otherRoot = swap;
+        }
+        parents[otherRoot] = root;
+        sizes[root] += sizes[otherRoot];
+    }
+
+    int find(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /* 원소마다 속한 집합의 번호, 번호는 0부터 집합이 처음 나온 순서대로 붙인다. */
+    int[] labels() {
+        int[] labels = new int[parents.length];
+        int[] rootLabels = new int[parents.length];
+        int count = 0;
+        for (int element = 0; element < parents.length; element++) {
+            int root = find(element);
+            if (rootLabels[root] == 0) {
+                rootLabels[root] = ++count;
+            }
+            labels[element] = rootLabels[root] - 1;
+        }
+        return labels;
+    }
+}
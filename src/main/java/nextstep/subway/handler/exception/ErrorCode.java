@@ -5,6 +5,10 @@ public enum ErrorCode {
     SECTION_REMAINED_ONLY_ONE(400, "[ERROR] 구간이 1개만 존재하여 삭제할 수 없습니다."),
     TWO_STATIONS_NOT_LINKED(400, "[ERROR] 두 역은 이어져 있지 않아 탐색을 진행할 수 없습니다."),
     TWO_STATIONS_IS_SAME(400, "[ERROR] 두 역은 같아서 탐색이 불가능합니다."),
+    INVALID_MAX_DISTANCE(400, "[ERROR] 탐색할 거리는 0보다 작을 수 없습니다."),
+    EMPTY_MATRIX_STATIONS(400, "[ERROR] 거리 표의 출발역과 도착역은 한 개 이상 입력해야 합니다."),
+    DISTANCE_MATRIX_TOO_LARGE(400, "[ERROR] 거리 표의 칸 수가 너무 많아 탐색할 수 없습니다."),
+    TOO_MANY_EXPLORE_PAIRS(400, "[ERROR] 한 번에 탐색할 역 쌍이 너무 많아 탐색할 수 없습니다."),
 
     STATION_NOT_FOUND_BY_ID(404, "[ERROR] 입력한 id의 지하철역을 찾을 수 없습니다."),
     LINE_NOT_FOUND_BY_ID(404, "[ERROR] 입력한 id의 노선을 찾을 수 없습니다."),
@@ -6,7 +6,11 @@ import java.time.LocalDateTime;
 
 public class ErrorResponse {
     public static ResponseEntity<ErrorResponse> convert(ErrorCode errorCode) {
-        return ResponseEntity.status(errorCode.getStatus()).body(new ErrorResponse(errorCode));
+        return ResponseEntity.status(errorCode.getStatus()).body(from(errorCode));
+    }
+
+    public static ErrorResponse from(ErrorCode errorCode) {
+        return new ErrorResponse(errorCode);
     }
 
     private final LocalDateTime localDateTime;
@@ -1,16 +1,24 @@
 package nextstep.subway.handler.validator;
 
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.path.ShortestPath;
 import nextstep.subway.handler.exception.ExploreException;
-import org.jgrapht.GraphPath;
 
+import java.util.List;
+
+import static nextstep.subway.handler.exception.ErrorCode.DISTANCE_MATRIX_TOO_LARGE;
+import static nextstep.subway.handler.exception.ErrorCode.EMPTY_MATRIX_STATIONS;
+import static nextstep.subway.handler.exception.ErrorCode.INVALID_MAX_DISTANCE;
+import static nextstep.subway.handler.exception.ErrorCode.TOO_MANY_EXPLORE_PAIRS;
 import static nextstep.subway.handler.exception.ErrorCode.TWO_STATIONS_IS_SAME;
 import static nextstep.subway.handler.exception.ErrorCode.TWO_STATIONS_NOT_LINKED;
 
 public class ExploreValidator {
-    private final static GraphPath NOT_FOUND = null;
+    private final static ShortestPath NOT_FOUND = null;
+    private final static long MAXIMUM_MATRIX_CELLS = 1_000_000;
+    private final static int MAXIMUM_EXPLORE_PAIRS = 1_000;
 
-    public static void validateNotFound(GraphPath path) {
+    public static void validateNotFound(ShortestPath path) {
         if (path == NOT_FOUND) {
             throw new ExploreException(TWO_STATIONS_NOT_LINKED);
         }
@@ -21,4 +29,28 @@ public class ExploreValidator {
             throw new ExploreException(TWO_STATIONS_IS_SAME);
         }
     }
+
+    public static void validateMaxDistance(int maxDistance) {
+        if (maxDistance < 0) {
+            throw new ExploreException(INVALID_MAX_DISTANCE);
+        }
+    }
+
+    public static void validateMatrixStations(List<Long> stationIds) {
+        if (stationIds == null || stationIds.isEmpty()) {
+            throw new ExploreException(EMPTY_MATRIX_STATIONS);
+        }
+    }
+
+    public static void validateMatrixSize(int sourceCount, int targetCount) {
+        if ((long) sourceCount * targetCount > MAXIMUM_MATRIX_CELLS) {
+            throw new ExploreException(DISTANCE_MATRIX_TOO_LARGE);
+        }
+    }
+
+    public static void validateExplorePairCount(int pairCount) {
+        if (pairCount > MAXIMUM_EXPLORE_PAIRS) {
+            throw new ExploreException(TOO_MANY_EXPLORE_PAIRS);
+        }
+    }
 }
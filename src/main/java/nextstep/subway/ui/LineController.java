@@ -55,6 +55,12 @@ public class LineController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/{lineId}/sections/batch")
+    public ResponseEntity<Void> addSections(@PathVariable Long lineId, @RequestBody List<SectionRequest> sectionRequests) {
+        lineService.addSections(lineId, sectionRequests);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{lineId}/sections")
     public ResponseEntity<Void> deleteSection(@PathVariable Long lineId, @RequestParam Long stationId) {
         lineService.deleteSection(lineId, stationId);
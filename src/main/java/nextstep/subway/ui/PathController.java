@@ -1,13 +1,23 @@
 package nextstep.subway.ui;
 
 import nextstep.subway.applicaion.PathService;
-import nextstep.subway.applicaion.dto.ExploreResponse;
+import nextstep.subway.applicaion.dto.ExploreBatchResponse;
+import nextstep.subway.applicaion.dto.ExploreMatrixRequest;
+import nextstep.subway.applicaion.dto.ExploreMatrixResponse;
+import nextstep.subway.applicaion.dto.ExploreRequest;
+import nextstep.subway.applicaion.dto.ExploreTreeResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/paths")
 public class PathController {
@@ -18,8 +28,31 @@ public class PathController {
     }
 
     @GetMapping
-    public ResponseEntity<ExploreResponse> explorePath(@RequestParam("source") Long source,
-                                                       @RequestParam("target") Long target) {
-        return ResponseEntity.ok(pathService.explore(source, target));
+    public ResponseEntity<byte[]> explorePath(@RequestParam("source") Long source,
+                                              @RequestParam("target") Long target) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(pathService.exploreAsJson(source, target));
+    }
+
+    @GetMapping("/from/{source}")
+    public ResponseEntity<ExploreTreeResponse> explorePathTree(@PathVariable Long source) {
+        return ResponseEntity.ok(pathService.exploreFrom(source));
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<ExploreTreeResponse> exploreReachable(@RequestParam("source") Long source,
+                                                                @RequestParam("maxDistance") int maxDistance) {
+        return ResponseEntity.ok(pathService.exploreWithin(source, maxDistance));
+    }
+
+    @PostMapping("/matrix")
+    public ResponseEntity<ExploreMatrixResponse> exploreMatrix(@RequestBody ExploreMatrixRequest exploreMatrixRequest) {
+        return ResponseEntity.ok(pathService.exploreMatrix(exploreMatrixRequest));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ExploreBatchResponse>> explorePaths(@RequestBody List<ExploreRequest> exploreRequests) {
+        return ResponseEntity.ok(pathService.exploreAll(exploreRequests));
     }
 }
@@ -3,6 +3,7 @@ package nextstep.subway.acceptance;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.assertj.core.util.Arrays;
+import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -290,6 +291,55 @@ class LineSectionAcceptanceTest extends AcceptanceTest {
         assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
     }
 
+    /**
+     * Scenario : 여러 구간을 한 번에 순서대로 등록한다.
+     * given    : 새로운 역들이 생성되고
+     * when     : 하행 종점 뒤, 구간 사이, 상행 종점 앞에 이어지는 구간들을 한 번에 등록하면
+     * then     : 앞의 구간이 등록된 노선 위에서 다음 구간이 차례로 등록된다.
+     */
+    @DisplayName("여러 구간을 한 번에 등록한다.")
+    @Test
+    void addLineSections() {
+        // given
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+        Long 판교역 = 지하철역_생성_요청("판교역").jsonPath().getLong("id");
+        Long 신사역 = 지하철역_생성_요청("신사역").jsonPath().getLong("id");
+
+        // when
+        ExtractableResponse<Response> postResponse = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선, Lists.newArrayList(
+                createSectionCreateParams(양재역, 정자역, 6),
+                createSectionCreateParams(양재역, 판교역, 2),
+                createSectionCreateParams(신사역, 강남역, 3)));
+
+        // then
+        assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(신사역, 강남역, 양재역, 판교역, 정자역);
+    }
+
+    /**
+     * Scenario : 한 번에 등록할 구간 중 하나라도 등록할 수 없으면 모두 등록하지 않는다.
+     * given    : 새로운 역들이 생성되고
+     * when     : 등록할 수 있는 구간과 두 역이 모두 노선에 있는 구간을 한 번에 등록하면
+     * then     : 구간 추가가 되지 않는다. (409 에러)
+     */
+    @DisplayName("한 번에 등록할 구간 중 하나라도 등록할 수 없으면 모두 등록하지 않는다.")
+    @Test
+    void validateAddLineSections() {
+        // given
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+
+        // when
+        ExtractableResponse<Response> postResponse = 지하철_노선에_지하철_구간_일괄_생성_요청(신분당선, Lists.newArrayList(
+                createSectionCreateParams(양재역, 정자역, 6),
+                createSectionCreateParams(강남역, 정자역, 3)));
+
+        // then
+        assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
+    }
+
     private Map<String, Object> createLineCreateParams(Long upStationId, Long downStationId, int distance) {
         Map<String, Object> lineCreateParams;
         lineCreateParams = new HashMap<>();
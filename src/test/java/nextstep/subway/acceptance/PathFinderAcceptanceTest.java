@@ -8,8 +8,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
 import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
@@ -138,6 +142,126 @@ public class PathFinderAcceptanceTest extends AcceptanceTest {
         assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
     }
 
+    /**
+     * Scenario : 한 역에서 이어진 모든 역까지의 최단 거리를 탐색한다.
+     * when     : 출발역으로 최단 경로 트리를 요청하면
+     * then     : 이어진 모든 역의 거리와 바로 앞 역을 가까운 순서로 응답해준다.
+     */
+    @Test
+    @DisplayName("한 역에서 모든 역까지의 최단 경로 트리를 탐색한다.")
+    void pathFindFrom() {
+        // when
+        ExtractableResponse<Response> getResponse = PathFinderSteps.한_역에서_모든_역까지_탐색(강남역);
+
+        // then
+        assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(getResponse.body().jsonPath().getList("stations.name")).hasSize(6);
+        assertThat(getResponse.body().jsonPath().getList("stations.distance", Integer.class))
+                .containsExactly(0, 6, 10, 10, 14, 16);
+        assertThat(getResponse.body().jsonPath().getLong("stations[4].previousId")).isEqualTo(양재역);
+    }
+
+    /**
+     * Scenario : 한 역에서 주어진 거리 안에 있는 역을 탐색한다.
+     * when     : 출발역과 거리를 입력하면
+     * then     : 그 거리 안에 있는 역만 가까운 순서로 응답해준다.
+     */
+    @Test
+    @DisplayName("주어진 거리 안에 있는 역을 탐색한다.")
+    void pathFindReachable() {
+        // when
+        ExtractableResponse<Response> getResponse = PathFinderSteps.거리_안의_역_탐색(강남역, 10);
+
+        // then
+        assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(getResponse.body().jsonPath().getList("stations.name"))
+                .containsExactlyInAnyOrder(Arrays.array("강남역", "교대역", "양재역", "서초역"));
+        assertThat(getResponse.body().jsonPath().getList("stations.distance", Integer.class))
+                .containsExactly(0, 6, 10, 10);
+    }
+
+    /**
+     * Scenario : 음수 거리로는 탐색할 수 없다.
+     * when     : 음수 거리를 입력하면
+     * then     : 응답하지 않는다. (400에러)
+     */
+    @Test
+    @DisplayName("주어진 거리 안에 있는 역을 탐색하지 못한다. - 음수 거리를 입력")
+    void validatePathFindReachable() {
+        // when
+        ExtractableResponse<Response> getResponse = PathFinderSteps.거리_안의_역_탐색(강남역, -1);
+
+        // then
+        assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Scenario : 여러 출발역과 도착역 사이의 거리 표를 탐색한다.
+     * when     : 출발역 목록과 도착역 목록으로 거리 표를 요청하면
+     * then     : 요청한 역 순서대로 행 우선의 거리 배열을 응답해준다.
+     */
+    @Test
+    @DisplayName("여러 출발역과 도착역 사이의 거리 표를 탐색한다.")
+    void pathFindMatrix() {
+        // given
+        Map<String, Object> params = new HashMap<>();
+        params.put("sources", Stream.of(강남역, 서초역).collect(Collectors.toList()));
+        params.put("targets", Stream.of(매봉역, 양재시민의숲역).collect(Collectors.toList()));
+
+        // when
+        ExtractableResponse<Response> postResponse = PathFinderSteps.거리_표_탐색(params);
+
+        // then
+        assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(postResponse.body().jsonPath().getList("sources", Long.class)).containsExactly(강남역, 서초역);
+        assertThat(postResponse.body().jsonPath().getList("distances", Integer.class)).containsExactly(14, 16, 15, 17);
+    }
+
+    /**
+     * Scenario : 출발역이나 도착역 목록 없이는 거리 표를 탐색할 수 없다.
+     * when     : 출발역 목록을 빼거나 비워서 거리 표를 요청하면
+     * then     : 응답하지 않는다. (400에러)
+     */
+    @Test
+    @DisplayName("여러 출발역과 도착역 사이의 거리 표를 탐색하지 못한다. - 출발역 목록이 없거나 비어 있음")
+    void validatePathFindMatrix() {
+        // given
+        Map<String, Object> missingSources = new HashMap<>();
+        missingSources.put("targets", Stream.of(매봉역).collect(Collectors.toList()));
+        Map<String, Object> emptySources = new HashMap<>();
+        emptySources.put("sources", Collections.emptyList());
+        emptySources.put("targets", Stream.of(매봉역).collect(Collectors.toList()));
+
+        // when
+        ExtractableResponse<Response> missingResponse = PathFinderSteps.거리_표_탐색(missingSources);
+        ExtractableResponse<Response> emptyResponse = PathFinderSteps.거리_표_탐색(emptySources);
+
+        // then
+        assertThat(missingResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(emptyResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Scenario : 여러 역 쌍을 한 번에 탐색한다.
+     * when     : 정상적인 쌍과 같은 역으로 된 쌍을 함께 일괄 탐색 요청하면
+     * then     : 요청 순서대로 정상적인 쌍에는 최단 경로를, 실패한 쌍에는 에러를 응답해준다.
+     */
+    @Test
+    @DisplayName("여러 역 쌍의 최단 경로를 한 번에 탐색한다.")
+    void pathFindBatch() {
+        // when
+        List<Map<String, Object>> params = Stream.of(createParams(강남역, 매봉역), createParams(강남역, 강남역), createParams(서초역, 양재역))
+                .collect(Collectors.toList());
+        ExtractableResponse<Response> postResponse = PathFinderSteps.경로_일괄_탐색(params);
+
+        // then
+        assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(postResponse.body().jsonPath().getInt("[0].path.distance")).isEqualTo(14);
+        assertThat(postResponse.body().jsonPath().getInt("[1].error.status")).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(postResponse.body().jsonPath().getList("[2].path.stations.name"))
+                .containsExactly(Arrays.array("서초역", "교대역", "양재역"));
+    }
+
     private Map<String, Object> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance) {
         Map<String, Object> lineCreateParams;
         lineCreateParams = new HashMap<>();
@@ -3,7 +3,9 @@ package nextstep.subway.acceptance;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.MediaType;
 
+import java.util.List;
 import java.util.Map;
 
 public class PathFinderSteps {
@@ -18,4 +20,54 @@ public class PathFinderSteps {
                 .then().log().all()
                 .extract();
     }
+
+    public static ExtractableResponse<Response> 한_역에서_모든_역까지_탐색(Long source) {
+        return RestAssured
+                .given().log().all()
+
+                .when()
+                .get("/paths/from/{source}", source)
+
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 거리_안의_역_탐색(Long source, int maxDistance) {
+        return RestAssured
+                .given().log().all()
+                .param("source", source)
+                .param("maxDistance", maxDistance)
+
+                .when()
+                .get("/paths/reachable")
+
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 거리_표_탐색(Map<String, Object> params) {
+        return RestAssured
+                .given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+
+                .when()
+                .post("/paths/matrix")
+
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 경로_일괄_탐색(List<Map<String, Object>> params) {
+        return RestAssured
+                .given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+
+                .when()
+                .post("/paths/batch")
+
+                .then().log().all()
+                .extract();
+    }
 }
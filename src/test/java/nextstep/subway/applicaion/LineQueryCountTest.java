@@ -0,0 +1,212 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static nextstep.subway.domain.factory.DtoFactory.createLineRequest;
+import static nextstep.subway.domain.factory.DtoFactory.createSectionRequest;
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // 구간을 추가한 뒤의 그래프 재생성이 조회 중에 끼어들지 않도록 바로 끝낸다.
+        "subway.path.rebuild-delay-millis=0"})
+@DisplayName("노선 조회, 편집 쿼리 수 테스트")
+class LineQueryCountTest {
+    private static final long MAX_QUERY_COUNT = 1;
+    // 편집할 역의 앞, 뒤 구간과 그 다음 구간
+    private static final long MAX_LOADED_SECTION_COUNT = 3;
+
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private SectionRepository sectionRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int savedLineCount;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        savedLineCount = 0;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    @DisplayName("노선이 늘어나도 정해진 수의 쿼리로 모든 노선을 조회한다.")
+    void showLines() {
+        // given
+        saveLines(1);
+        long queryCountOfOneLine = countQueries(() -> lineService.showLines());
+        saveLines(10);
+
+        // when
+        long queryCount = countQueries(() -> lineService.showLines());
+
+        // then
+        assertThat(lineService.showLines()).hasSize(11);
+        assertThat(queryCount).isEqualTo(queryCountOfOneLine).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("구간이 늘어나도 정해진 수의 쿼리로 노선을 조회한다.")
+    void findById() {
+        // given
+        Long lineId = saveLines(1);
+
+        // when
+        long queryCount = countQueries(() -> lineService.findById(lineId));
+
+        // then
+        assertThat(lineService.findById(lineId).getStations()).hasSize(4);
+        assertThat(queryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("긴 노선에 구간을 추가하고 삭제해도 맞닿은 구간만 읽는다.")
+    void editLongLine() {
+        // given
+        Station 상행역 = stationRepository.save(createStation("상행역"));
+        Station 하행역 = stationRepository.save(createStation("하행역"));
+        Long lineId = lineService.saveLine(createLineRequest("신분당선", "red", 상행역.getId(), 하행역.getId(), 100)).getId();
+        Station downStation = 하행역;
+        for (int i = 0; i < 30; i++) {
+            Station station = stationRepository.save(createStation("역" + i));
+            lineService.addSection(lineId, createSectionRequest(downStation.getId(), station.getId(), 10));
+            downStation = station;
+        }
+        Station 추가역 = stationRepository.save(createStation("추가역"));
+
+        // when
+        long addedLoadCount = countSectionLoads(() ->
+                lineService.addSection(lineId, createSectionRequest(상행역.getId(), 추가역.getId(), 40)));
+        long deletedLoadCount = countSectionLoads(() -> lineService.deleteSection(lineId, 하행역.getId()));
+
+        // then
+        assertThat(addedLoadCount).isLessThanOrEqualTo(MAX_LOADED_SECTION_COUNT);
+        assertThat(deletedLoadCount).isLessThanOrEqualTo(MAX_LOADED_SECTION_COUNT);
+        assertThat(lineService.findById(lineId).getStations())
+                .extracting(StationResponse::getName)
+                .startsWith("상행역", "추가역", "역0")
+                .hasSize(32);
+    }
+
+    @Test
+    @DisplayName("같은 자리에 구간을 거듭 끼워 자리가 모자라면 노선 전체를 읽어 다시 매기고, 지운 구간은 남기지 않는다.")
+    void renumberFocusedLine() {
+        // given
+        Station 상행역 = stationRepository.save(createStation("상행역"));
+        Station 하행역 = stationRepository.save(createStation("하행역"));
+        Station 종착역 = stationRepository.save(createStation("종착역"));
+        Long lineId = lineService.saveLine(createLineRequest("신분당선", "red", 상행역.getId(), 하행역.getId(), 100)).getId();
+        lineService.addSection(lineId, createSectionRequest(하행역.getId(), 종착역.getId(), 10));
+
+        // when
+        // 상행역 바로 뒤에 끼울 때마다 밀려난 구간의 자리가 반씩 줄어, 열한 번째에 자리가 모자란다.
+        // 끼운 구간을 다음 구간이 다시 나누므로 거리는 하나씩 줄인다.
+        long maxLoadCount = 0;
+        List<String> insertedNames = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Station station = stationRepository.save(createStation("역" + i));
+            int distance = 12 - i;
+            long loadCount = countSectionLoads(() ->
+                    lineService.addSection(lineId, createSectionRequest(상행역.getId(), station.getId(), distance)));
+            maxLoadCount = Math.max(maxLoadCount, loadCount);
+            insertedNames.add(0, station.getName());
+        }
+
+        // then
+        List<String> expectedNames = new ArrayList<>();
+        expectedNames.add("상행역");
+        expectedNames.addAll(insertedNames);
+        expectedNames.add("하행역");
+        expectedNames.add("종착역");
+        assertThat(maxLoadCount).isGreaterThan(MAX_LOADED_SECTION_COUNT);
+        assertThat(lineService.findById(lineId).getStations())
+                .extracting(StationResponse::getName)
+                .containsExactlyElementsOf(expectedNames);
+        assertThat(sectionRepository.count()).isEqualTo(expectedNames.size() - 1);
+    }
+
+    @Test
+    @DisplayName("여러 구간을 한 번에 추가하면 insert 를 묶어서 보낸다.")
+    void addSections() {
+        // given
+        Station 상행역 = stationRepository.save(createStation("상행역"));
+        Station 하행역 = stationRepository.save(createStation("하행역"));
+        Long lineId = lineService.saveLine(createLineRequest("신분당선", "red", 상행역.getId(), 하행역.getId(), 10)).getId();
+
+        int sectionCount = 20;
+        List<SectionRequest> sectionRequests = new ArrayList<>();
+        Station upStation = 하행역;
+        for (int i = 0; i < sectionCount; i++) {
+            Station station = stationRepository.save(createStation("역" + i));
+            sectionRequests.add(createSectionRequest(upStation.getId(), station.getId(), 10));
+            upStation = station;
+        }
+
+        // when
+        long queryCount = countQueries(() -> lineService.addSections(lineId, sectionRequests));
+
+        // then
+        assertThat(lineService.findById(lineId).getStations()).hasSize(sectionCount + 2);
+        assertThat(queryCount).isLessThan(sectionCount);
+    }
+
+    /* 역 네 개, 구간 세 개인 노선을 만들고 마지막 노선의 id 를 반환한다. */
+    private Long saveLines(int count) {
+        Long lineId = null;
+        for (int i = 0; i < count; i++) {
+            int line = savedLineCount++;
+            Station 상행역 = stationRepository.save(createStation("상행역" + line));
+            Station 중간역 = stationRepository.save(createStation("중간역" + line));
+            Station 하행역 = stationRepository.save(createStation("하행역" + line));
+            Station 종착역 = stationRepository.save(createStation("종착역" + line));
+
+            lineId = lineService.saveLine(createLineRequest(line + "호선", "green", 상행역.getId(), 하행역.getId(), 10)).getId();
+            lineService.addSection(lineId, createSectionRequest(상행역.getId(), 중간역.getId(), 4));
+            lineService.addSection(lineId, createSectionRequest(하행역.getId(), 종착역.getId(), 5));
+        }
+        return lineId;
+    }
+
+    private long countSectionLoads(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getEntityStatistics(Section.class.getName()).getLoadCount();
+    }
+
+    private long countQueries(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -3,6 +3,7 @@ package nextstep.subway.applicaion;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.SectionRepository;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,8 @@ class LineServiceMockTest {
     @Mock
     private LineRepository lineRepository;
     @Mock
+    private SectionRepository sectionRepository;
+    @Mock
     private StationRepository stationRepository;
 
     private LineService lineService;
@@ -38,7 +41,7 @@ class LineServiceMockTest {
 
     @BeforeEach
     void init() {
-        lineService = new LineService(lineRepository, stationRepository);
+        lineService = new LineService(lineRepository, sectionRepository, stationRepository, new StationRegistry(stationRepository));
 
         강남역 = createStation(1L, "강남역");
         선릉역 = createStation(2L, "선릉역");
@@ -67,7 +70,7 @@ class LineServiceMockTest {
         Station 공덕역 = createStation(4L, "공덕역");
         Line 경의선 = createLine(2L, "경의선", "blue", 용산역, 공덕역, 8);
 
-        when(lineRepository.findAll()).thenReturn(Arrays.asList(이호선, 경의선));
+        when(lineRepository.findAllWithStations()).thenReturn(Arrays.asList(이호선, 경의선));
 
         // when
         List<LineResponse> lineResponses = lineService.showLines();
@@ -78,7 +81,7 @@ class LineServiceMockTest {
 
     @Test
     void 단일_구간_정보() {
-        when(lineRepository.findById(any())).thenReturn(Optional.of(이호선));
+        when(lineRepository.findWithStationsById(any())).thenReturn(Optional.of(이호선));
 
         // when
         LineResponse lineResponse = lineService.findById(1L);
@@ -113,6 +116,8 @@ class LineServiceMockTest {
 
         when(stationRepository.findById(2L)).thenReturn(Optional.of(선릉역));
         when(stationRepository.findById(3L)).thenReturn(Optional.of(용산역));
+        when(stationRepository.getById(2L)).thenReturn(선릉역);
+        when(stationRepository.getById(3L)).thenReturn(용산역);
         when(lineRepository.findById(any())).thenReturn(Optional.of(이호선));
 
         // when
@@ -0,0 +1,107 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineRequest;
+import nextstep.subway.domain.NetworkChangedEvent;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.path.GraphBuilder;
+import nextstep.subway.domain.path.SearchMode;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static nextstep.subway.domain.factory.DtoFactory.createLineRequest;
+import static nextstep.subway.domain.factory.DtoFactory.createSectionRequest;
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "subway.path.rebuild-delay-millis=0")
+@DisplayName("경로 탐색 그래프 캐시 테스트")
+class PathFinderCacheTest {
+    @Autowired
+    private PathFinderCache pathFinderCache;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Station 강남역;
+    private Station 교대역;
+    private Long 이호선;
+
+    @BeforeEach
+    void init() {
+        강남역 = stationRepository.save(createStation("강남역"));
+        교대역 = stationRepository.save(createStation("교대역"));
+        LineRequest lineRequest = createLineRequest("2호선", "green", 강남역.getId(), 교대역.getId(), 6);
+        이호선 = lineService.saveLine(lineRequest).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // 커밋된 데이터가 같은 컨텍스트의 다른 테스트에 남지 않도록 정리한다.
+        databaseCleanup.execute();
+    }
+
+    @Test
+    @DisplayName("노선도가 변경되지 않으면 같은 그래프를 재사용한다.")
+    void reuse() {
+        // when
+        PathFinder pathFinder = pathFinderCache.get();
+
+        // then
+        assertThat(pathFinderCache.get()).isSameAs(pathFinder);
+    }
+
+    @Test
+    @DisplayName("노선도가 변경되면 버전이 올라가고 새로 만든 그래프로 교체한다.")
+    void rebuild() {
+        // given
+        PathFinder pathFinder = pathFinderCache.get();
+        long version = pathFinderCache.version();
+        Station 서초역 = stationRepository.save(createStation("서초역"));
+
+        // when
+        lineService.addSection(이호선, createSectionRequest(교대역.getId(), 서초역.getId(), 4));
+
+        // then
+        assertThat(pathFinderCache.version()).isGreaterThan(version);
+        assertThat(pathFinderCache.get()).isNotSameAs(pathFinder);
+    }
+
+    @Test
+    @DisplayName("그래프 생성에 실패하면 변경한 쪽을 실패시키지 않고 다시 시도한다.")
+    void retryFailedRebuild() {
+        // given
+        SubwayGraphLoader subwayGraphLoader = mock(SubwayGraphLoader.class);
+        when(subwayGraphLoader.load())
+                .thenThrow(new IllegalStateException("구간 조회 실패"))
+                .thenReturn(new GraphBuilder().addSection(강남역, 교대역, 6).build());
+        PathFinderCache failingCache = new PathFinderCache(subwayGraphLoader, mock(PlatformTransactionManager.class),
+                0, SearchMode.DIJKSTRA, false, 0, 0);
+
+        try {
+            // when
+            failingCache.handleNetworkChanged(new NetworkChangedEvent(강남역));
+
+            // then
+            verify(subwayGraphLoader, timeout(5_000).times(2)).load();
+            assertThat(failingCache.isCurrent(failingCache.get(), failingCache.version())).isTrue();
+        } finally {
+            failingCache.shutdown();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.applicaion.dto.LineRequest;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static nextstep.subway.domain.factory.DtoFactory.createLineRequest;
+import static nextstep.subway.domain.factory.DtoFactory.createSectionRequest;
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "subway.path.rebuild-delay-millis=0")
+@DisplayName("경로 탐색 응답 캐시 테스트")
+class PathResultCacheTest {
+    @Autowired
+    private PathService pathService;
+    @Autowired
+    private PathResultCache pathResultCache;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Station 강남역;
+    private Station 교대역;
+    private Long 이호선;
+
+    @BeforeEach
+    void init() {
+        강남역 = stationRepository.save(createStation("강남역"));
+        교대역 = stationRepository.save(createStation("교대역"));
+        LineRequest lineRequest = createLineRequest("2호선", "green", 강남역.getId(), 교대역.getId(), 6);
+        이호선 = lineService.saveLine(lineRequest).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    @DisplayName("같은 버전의 같은 요청은 보관한 응답을 돌려준다.")
+    void hit() {
+        // given
+        byte[] response = pathService.exploreAsJson(강남역.getId(), 교대역.getId());
+        long hitCount = pathResultCache.hitCount();
+
+        // when
+        byte[] cached = pathService.exploreAsJson(강남역.getId(), 교대역.getId());
+
+        // then
+        assertThat(cached).isSameAs(response);
+        assertThat(pathResultCache.hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("노선도가 변경되면 보관한 응답을 쓰지 않는다.")
+    void invalidate() {
+        // given
+        byte[] response = pathService.exploreAsJson(강남역.getId(), 교대역.getId());
+        Station 서초역 = stationRepository.save(createStation("서초역"));
+
+        // when
+        lineService.addSection(이호선, createSectionRequest(강남역.getId(), 서초역.getId(), 2));
+        byte[] explored = pathService.exploreAsJson(강남역.getId(), 교대역.getId());
+
+        // then
+        assertThat(explored).isNotSameAs(response);
+        assertThat(new String(explored)).contains("서초역");
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래 쓰이지 않은 응답부터 내보낸다.")
+    void evict() {
+        // given
+        byte[] response = new byte[100];
+        PathResultCache cache = new PathResultCache(500);
+        cache.put(1, 1L, 2L, response);
+        cache.put(1, 1L, 3L, response);
+
+        // when
+        cache.get(1, 1L, 2L);
+        cache.put(1, 1L, 4L, response);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(1, 1L, 2L)).isSameAs(response);
+        assertThat(cache.get(1, 1L, 3L)).isNull();
+        assertThat(cache.get(1, 1L, 4L)).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("버전이 오르면 이전 버전의 응답을 모두 비운다.")
+    void clearOlderVersion() {
+        // given
+        PathResultCache cache = new PathResultCache(1024);
+        cache.put(1, 1L, 2L, new byte[10]);
+
+        // when
+        byte[] result = cache.get(2, 1L, 2L);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 함께 저장하고 조회해도 보관한 바이트 수가 어긋나지 않는다.")
+    void concurrentAccess() throws Exception {
+        // given
+        byte[] response = new byte[100];
+        PathResultCache cache = new PathResultCache(20_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        try {
+            Future<?>[] workers = new Future<?>[4];
+            for (int i = 0; i < workers.length; i++) {
+                long seed = i;
+                workers[i] = executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int j = 0; j < 20_000; j++) {
+                        long source = random.nextInt(300);
+                        if (cache.get(1, source, 1L) == null) {
+                            cache.put(1, source, 1L, response);
+                        }
+                    }
+                });
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(cache.bytes()).isEqualTo(cache.size() * (response.length + 96L));
+        assertThat(cache.hitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("보관한 응답을 돌려준 수와 찾지 못한 수, 보관 크기를 지표로 내보낸다.")
+    void metrics() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PathResultCache cache = new PathResultCache(1024);
+        cache.bindTo(meterRegistry);
+
+        // when
+        cache.get(1, 1L, 2L);
+        cache.put(1, 1L, 2L, new byte[10]);
+        cache.get(1, 1L, 2L);
+        cache.get(1, 1L, 2L);
+
+        // then
+        assertThat(meterRegistry.get("subway.path.result-cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("subway.path.result-cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("subway.path.result-cache.size").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("subway.path.result-cache.bytes").gauge().value()).isEqualTo(cache.bytes());
+    }
+}
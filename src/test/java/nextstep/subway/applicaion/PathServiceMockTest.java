@@ -0,0 +1,117 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.domain.PathFinder;
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static nextstep.subway.domain.factory.EntityFactory.createLine;
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("경로 탐색 동시 요청 단위 테스트")
+class PathServiceMockTest {
+    private static final long VERSION = 1;
+    private static final int FOLLOWERS = 8;
+
+    @Mock
+    private StationRegistry stationRegistry;
+    @Mock
+    private PathFinderCache pathFinderCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final SingleFlight<PathKey, byte[]> inFlightExplores = new SingleFlight<>();
+    private PathResultCache pathResultCache;
+    private PathService pathService;
+
+    private Station 강남역;
+    private Station 교대역;
+
+    @BeforeEach
+    void init() {
+        pathResultCache = new PathResultCache(1024 * 1024);
+        pathService = new PathService(stationRegistry, pathFinderCache, pathResultCache, inFlightExplores,
+                new ObjectMapper(), transactionManager);
+
+        강남역 = createStation(1L, "강남역");
+        교대역 = createStation(2L, "교대역");
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("보관된 응답이 없는 같은 요청이 동시에 들어오면 한 번만 탐색하고 결과를 함께 받는다.")
+    void exploreOnceForConcurrentRequests() throws Exception {
+        // given
+        AtomicInteger searches = new AtomicInteger();
+        CountDownLatch searching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pathFinderCache.sharedVersion()).thenReturn(VERSION);
+        when(pathFinderCache.get()).thenReturn(new PathFinder(Collections.singletonList(createLine(1L, "2호선", "green", 강남역, 교대역, 6))));
+        when(pathFinderCache.isCurrent(any(), eq(VERSION))).thenReturn(true);
+        when(stationRegistry.find(1L)).thenAnswer(invocation -> {
+            searches.incrementAndGet();
+            searching.countDown();
+            release.await();
+            return Optional.of(강남역);
+        });
+        when(stationRegistry.find(2L)).thenReturn(Optional.of(교대역));
+
+        Future<byte[]> leader = executor.submit(() -> pathService.exploreAsJson(1L, 2L));
+        searching.await();
+
+        // when
+        List<Future<byte[]>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> pathService.exploreAsJson(1L, 2L)));
+        }
+        awaitWaiting(FOLLOWERS);
+        release.countDown();
+
+        // then
+        byte[] response = leader.get();
+        for (Future<byte[]> follower : followers) {
+            assertThat(follower.get()).isSameAs(response);
+        }
+        assertThat(searches.get()).isEqualTo(1);
+        assertThat(pathResultCache.get(VERSION, 1L, 2L)).isSameAs(response);
+    }
+
+    private void awaitWaiting(int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlightExplores.waiting(PathKey.of(VERSION, 1L, 2L)) < followers) {
+            if (System.nanoTime() > deadline) {
+                fail("뒤따른 요청 " + followers + "개가 기다리지 않는다.");
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+}
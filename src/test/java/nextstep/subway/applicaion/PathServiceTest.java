@@ -1,5 +1,7 @@
 package nextstep.subway.applicaion;
 
+import nextstep.subway.applicaion.dto.ExploreBatchResponse;
+import nextstep.subway.applicaion.dto.ExploreRequest;
 import nextstep.subway.applicaion.dto.ExploreResponse;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
@@ -14,7 +16,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static nextstep.subway.domain.factory.EntityFactory.*;
+import static nextstep.subway.handler.exception.ErrorCode.STATION_NOT_FOUND_BY_ID;
+import static nextstep.subway.handler.exception.ErrorCode.TOO_MANY_EXPLORE_PAIRS;
+import static nextstep.subway.handler.exception.ErrorCode.TWO_STATIONS_IS_SAME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -111,4 +120,40 @@ class PathServiceTest {
         assertThatThrownBy(() -> pathService.explore(강남역.getId(), 100L))
                 .isInstanceOf(StationException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 역 쌍을 한 번에 탐색하고, 실패한 쌍은 그 자리에 에러를 담는다.")
+    void exploreAll() {
+        // given
+        List<ExploreRequest> requests = Arrays.asList(
+                new ExploreRequest(강남역.getId(), 매봉역.getId()),
+                new ExploreRequest(강남역.getId(), 강남역.getId()),
+                new ExploreRequest(서초역.getId(), 양재시민의숲역.getId()),
+                new ExploreRequest(강남역.getId(), 100L),
+                new ExploreRequest(강남역.getId(), 서초역.getId()));
+
+        // when
+        List<ExploreBatchResponse> responses = pathService.exploreAll(requests);
+
+        // then
+        assertThat(responses).extracting(ExploreBatchResponse::getTarget)
+                .containsExactly(매봉역.getId(), 강남역.getId(), 양재시민의숲역.getId(), 100L, 서초역.getId());
+        assertThat(responses.get(0).getPath().getDistance()).isEqualTo(14);
+        assertThat(responses.get(1).getError().getStatus()).isEqualTo(TWO_STATIONS_IS_SAME.getStatus());
+        assertThat(responses.get(2).getPath().getDistance()).isEqualTo(17);
+        assertThat(responses.get(3).getError().getStatus()).isEqualTo(STATION_NOT_FOUND_BY_ID.getStatus());
+        assertThat(responses.get(4).getPath().getDistance()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한 번에 탐색할 역 쌍이 너무 많으면 탐색하지 못한다.")
+    void validateExploreAll() {
+        // given
+        List<ExploreRequest> requests = Collections.nCopies(1_001, new ExploreRequest(강남역.getId(), 매봉역.getId()));
+
+        // when/then
+        assertThatThrownBy(() -> pathService.exploreAll(requests))
+                .isInstanceOf(ExploreException.class)
+                .hasFieldOrPropertyWithValue("errorCode", TOO_MANY_EXPLORE_PAIRS);
+    }
+}
@@ -0,0 +1,123 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.handler.exception.ExploreException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static nextstep.subway.handler.exception.ErrorCode.TWO_STATIONS_NOT_LINKED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+@DisplayName("동시 요청 합치기 단위 테스트")
+class SingleFlightTest {
+    private static final int FOLLOWERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업이 실행 중이면 새로 실행하지 않고 그 결과를 함께 받는다.")
+    void coalesce() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("강남-교대", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "경로";
+        }));
+        started.await();
+
+        // when
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("강남-교대", () -> {
+                executions.incrementAndGet();
+                return "다시 탐색한 경로";
+            })));
+        }
+        awaitWaiting("강남-교대", FOLLOWERS);
+        release.countDown();
+
+        // then
+        assertThat(leader.get()).isEqualTo("경로");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get()).isEqualTo("경로");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 뒤에 들어온 요청은 다시 실행한다.")
+    void executeAgain() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        singleFlight.execute("강남-교대", () -> "경로" + executions.incrementAndGet());
+        String result = singleFlight.execute("강남-교대", () -> "경로" + executions.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo("경로2");
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 기다리던 요청도 같은 예외를 받는다.")
+    void shareException() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> singleFlight.execute("강남-운정", () -> {
+            started.countDown();
+            await(release);
+            throw new ExploreException(TWO_STATIONS_NOT_LINKED);
+        }));
+        started.await();
+
+        // when
+        Future<String> follower = executor.submit(() -> singleFlight.execute("강남-운정", () -> "경로"));
+        awaitWaiting("강남-운정", 1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(follower::get).hasCauseInstanceOf(ExploreException.class);
+    }
+
+    /* 먼저 들어온 작업을 풀어 주기 전에, 뒤따른 요청이 모두 그 결과를 기다리기 시작했는지 확인한다. */
+    private void awaitWaiting(String key, int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.waiting(key) < followers) {
+            if (System.nanoTime() > deadline) {
+                fail("뒤따른 요청 " + followers + "개가 기다리지 않는다.");
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("역 등록부 단위 테스트")
+class StationRegistryTest {
+    @Mock
+    private StationRepository stationRepository;
+
+    private StationRegistry stationRegistry;
+
+    private Station 강남역;
+    private Station 교대역;
+
+    @BeforeEach
+    void init() {
+        stationRegistry = new StationRegistry(stationRepository);
+
+        강남역 = createStation(1L, "강남역");
+        교대역 = createStation(2L, "교대역");
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 역은 DB 를 조회하지 않고 찾는다.")
+    void readThrough() {
+        // given
+        when(stationRepository.findById(1L)).thenReturn(Optional.of(강남역));
+
+        // when
+        stationRegistry.find(1L);
+        Optional<Station> station = stationRegistry.find(1L);
+
+        // then
+        assertThat(station).containsSame(강남역);
+        verify(stationRepository, times(1)).findById(1L);
+        assertThat(stationRegistry.roundTrips()).isEqualTo(1);
+        assertThat(stationRegistry.savedRoundTrips()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("등록한 역은 조회 없이 찾고, 등록을 해제한 역은 다시 DB 에서 찾는다.")
+    void registerAndUnregister() {
+        // given
+        stationRegistry.register(강남역);
+        assertThat(stationRegistry.find(1L)).containsSame(강남역);
+
+        // when
+        stationRegistry.unregister(1L);
+
+        // then
+        assertThat(stationRegistry.find(1L)).isEmpty();
+        verify(stationRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("여러 역을 찾을 때 등록부에 없는 역만 한 번에 조회한다.")
+    void findAll() {
+        // given
+        stationRegistry.register(강남역);
+        when(stationRepository.findAllById(Arrays.asList(2L, 3L))).thenReturn(Arrays.asList(교대역));
+
+        // when
+        Map<Long, Station> stations = stationRegistry.findAll(Arrays.asList(1L, 2L, 3L));
+
+        // then
+        assertThat(stations).containsEntry(1L, 강남역).containsEntry(2L, 교대역).doesNotContainKey(3L);
+        assertThat(stationRegistry.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("등록부를 비우면 등록했던 역도 다시 DB 에서 찾는다.")
+    void clear() {
+        // given
+        stationRegistry.register(강남역);
+        stationRegistry.register(교대역);
+
+        // when
+        stationRegistry.clear();
+
+        // then
+        assertThat(stationRegistry.size()).isZero();
+        assertThat(stationRegistry.find(1L)).isEmpty();
+        verify(stationRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("등록부에서 찾은 수와 DB 를 조회한 수를 지표로 내보낸다.")
+    void metrics() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        stationRegistry.bindTo(meterRegistry);
+        when(stationRepository.findById(1L)).thenReturn(Optional.of(강남역));
+
+        // when
+        stationRegistry.find(1L);
+        stationRegistry.find(1L);
+        stationRegistry.find(1L);
+
+        // then
+        assertThat(meterRegistry.get("subway.station.registry.lookups").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("subway.station.registry.lookups").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("subway.station.registry.size").gauge().value()).isEqualTo(1);
+    }
+}
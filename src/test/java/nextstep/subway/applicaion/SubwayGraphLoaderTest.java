@@ -0,0 +1,92 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineRequest;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.path.SubwayGraph;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import static nextstep.subway.domain.factory.DtoFactory.createLineRequest;
+import static nextstep.subway.domain.factory.DtoFactory.createSectionRequest;
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "subway.path.rebuild-delay-millis=0")
+@DisplayName("경로 탐색 그래프 적재 테스트")
+class SubwayGraphLoaderTest {
+    @Autowired
+    private SubwayGraphLoader subwayGraphLoader;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Station 강남역;
+    private Station 교대역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Station 광교역;
+
+    @BeforeEach
+    void init() {
+        강남역 = stationRepository.save(createStation("강남역"));
+        교대역 = stationRepository.save(createStation("교대역"));
+        양재역 = stationRepository.save(createStation("양재역"));
+        남부터미널역 = stationRepository.save(createStation("남부터미널역"));
+        광교역 = stationRepository.save(createStation("광교역"));
+
+        LineRequest 이호선 = createLineRequest("2호선", "green", 교대역.getId(), 강남역.getId(), 10);
+        lineService.saveLine(이호선);
+        LineRequest 삼호선 = createLineRequest("3호선", "orange", 교대역.getId(), 양재역.getId(), 5);
+        Long 삼호선_아이디 = lineService.saveLine(삼호선).getId();
+        // 가운데에 끼운 구간이 있어도 노선 순서대로 잇는다.
+        lineService.addSection(삼호선_아이디, createSectionRequest(교대역.getId(), 남부터미널역.getId(), 2));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    @DisplayName("구간에 속한 역과 구간으로 그래프를 만든다.")
+    void load() {
+        // when
+        SubwayGraph graph = subwayGraphLoader.load();
+
+        // then
+        assertThat(graph.size()).isEqualTo(4);
+        assertThat(graph.edgeSize()).isEqualTo(6);
+        assertThat(graph.contains(광교역.getId())).isFalse();
+        assertThat(graph.stationAt(graph.indexOf(남부터미널역.getId())).getName()).isEqualTo("남부터미널역");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("그래프를 만드는 동안 영속성 컨텍스트에 엔티티를 올리지 않는다.")
+    void loadWithoutEntities() {
+        // given
+        entityManager.clear();
+
+        // when
+        subwayGraphLoader.load();
+
+        // then
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
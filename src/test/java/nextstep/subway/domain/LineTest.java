@@ -137,4 +137,46 @@ class LineTest {
         assertThat(이호선.getStations()).containsExactly(Arrays.array(강남역, 역삼역));
         assertThat(이호선.getSections().findSectionByDownStation(역삼역).getDistance()).isEqualTo(17);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("구간을 추가하고 삭제해도 구간의 자리가 상행 종점부터의 순서를 따른다.")
+    void positions() {
+        // given
+        Station 역삼역 = createStation(3L, "역삼역");
+        Station 교대역 = createStation(4L, "교대역");
+        Station 서초역 = createStation(5L, "서초역");
+
+        // when
+        이호선.addSection(createSection(이호선, 강남역, 역삼역, 4));
+        이호선.addSection(createSection(이호선, 교대역, 강남역, 3));
+        이호선.addSection(createSection(이호선, 서초역, 역삼역, 2));
+        이호선.removeSectionByStation(강남역);
+
+        // then
+        assertThat(이호선.getStations()).containsExactly(Arrays.array(교대역, 서초역, 역삼역, 선릉역));
+        assertThat(이호선.getSections().getOrderedSections())
+                .extracting(Section::getPosition)
+                .isSorted()
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("같은 자리에 구간을 여러 번 끼우면 구간의 자리를 다시 매겨 순서를 유지한다.")
+    void renumberPositions() {
+        // given
+        Line 신분당선 = Line.of("신분당선", "red", 강남역, 선릉역, 100);
+        Station downStation = 선릉역;
+
+        // when
+        for (long id = 100; id < 130; id++) {
+            Station station = createStation(id, "역" + id);
+            신분당선.addSection(createSection(신분당선, station, downStation, 1));
+            downStation = station;
+        }
+
+        // then
+        assertThat(신분당선.getStations()).hasSize(32);
+        assertThat(신분당선.getStations().get(1).getId()).isEqualTo(129L);
+        assertThat(신분당선.getStations().get(31)).isEqualTo(선릉역);
+    }
+}
@@ -1,9 +1,13 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.applicaion.dto.ExploredMatrix;
 import nextstep.subway.applicaion.dto.ExploredResult;
+import nextstep.subway.applicaion.dto.ExploredTree;
 import nextstep.subway.domain.factory.EntityFactory;
+import nextstep.subway.domain.path.SearchMode;
 import nextstep.subway.handler.exception.ExploreException;
 import org.assertj.core.util.Arrays;
+import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -69,6 +73,59 @@ class PathFinderTest {
         assertThat(exploredResult.getDistance()).isEqualTo(14);
     }
 
+    @DisplayName("한 역에서 이어진 모든 역까지의 거리와 바로 앞 역을 가까운 순서로 반환한다.")
+    @Test
+    void exploreFrom() {
+        // given
+        pathFinder = new PathFinder(allLines, SearchMode.ALT, PathFinder.ALL_PAIRS_DISABLED, 1024);
+
+        // when
+        ExploredTree exploredTree = pathFinder.exploreFrom(강남역);
+
+        // then
+        assertThat(exploredTree.getNodes()).extracting(ExploredTree.Node::getStation)
+                .containsExactlyInAnyOrder(Arrays.array(강남역, 교대역, 양재역, 서초역, 매봉역, 양재시민의숲역));
+        assertThat(exploredTree.getNodes()).extracting(ExploredTree.Node::getDistance)
+                .containsExactly(0, 6, 10, 10, 14, 16);
+        assertThat(exploredTree.getNodes().get(4).getStation()).isEqualTo(매봉역);
+        assertThat(exploredTree.getNodes().get(4).getPrevious()).isEqualTo(양재역);
+        assertThat(pathFinder.explore(서초역, 강남역).getStations()).containsExactly(Arrays.array(서초역, 교대역, 강남역));
+    }
+
+    @DisplayName("한 역에서 주어진 거리 안에 있는 역만 가까운 순서로 반환한다.")
+    @Test
+    void exploreWithin() {
+        // given
+        pathFinder = new PathFinder(allLines);
+
+        // when
+        ExploredTree exploredTree = pathFinder.exploreWithin(강남역, 10);
+
+        // then
+        assertThat(exploredTree.getNodes()).extracting(ExploredTree.Node::getStation)
+                .containsExactlyInAnyOrder(Arrays.array(강남역, 교대역, 양재역, 서초역));
+        assertThat(exploredTree.getNodes()).extracting(ExploredTree.Node::getDistance)
+                .containsExactly(0, 6, 10, 10);
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 거리를 행 우선의 한 배열로 반환한다.")
+    @Test
+    void exploreMatrix() {
+        // given
+        Station 용산역 = EntityFactory.createStation(7L, "용산역");
+        pathFinder = new PathFinder(allLines);
+
+        // when
+        ExploredMatrix exploredMatrix = pathFinder.exploreMatrix(
+                Lists.newArrayList(강남역, 서초역, 용산역), Lists.newArrayList(매봉역, 양재시민의숲역, 용산역));
+
+        // then
+        assertThat(exploredMatrix.getDistances()).containsExactly(
+                14, 16, PathFinder.NOT_LINKED_DISTANCE,
+                15, 17, PathFinder.NOT_LINKED_DISTANCE,
+                PathFinder.NOT_LINKED_DISTANCE, PathFinder.NOT_LINKED_DISTANCE, 0);
+    }
+
     @DisplayName("두 역이 이어지지 않은 경우 예외를 발생시킨다.")
     @Test
     void validateExplore() {
@@ -96,4 +96,64 @@ class SectionsTest {
         assertThat(section.getUpStation()).isEqualTo(선릉역);
         assertThat(section.getDownStation()).isEqualTo(역삼역);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("id 가 같은 역은 다른 객체여도 같은 역으로 찾는다.")
+    void findByStationId() {
+        // given
+        Section 추가할구간 = createSection(이호선, 선릉역, 역삼역, 7);
+        sections.add(추가할구간);
+        Station 다시_읽은_역삼역 = createStation(3L, "역삼역");
+
+        // when/then
+        assertThat(sections.hasStation(다시_읽은_역삼역)).isTrue();
+        assertThat(sections.findSectionByDownStation(다시_읽은_역삼역)).isSameAs(추가할구간);
+    }
+
+    @Test
+    @DisplayName("구간을 삭제하면 삭제한 구간의 역으로 더 이상 찾지 않는다.")
+    void removeFromIndex() {
+        // given
+        Section 추가할구간 = createSection(이호선, 선릉역, 역삼역, 7);
+        sections.add(추가할구간);
+        sections.hasStation(역삼역);
+
+        // when
+        sections.remove(추가할구간);
+
+        // then
+        assertThat(sections.hasStation(역삼역)).isFalse();
+        assertThat(sections.findSameUpDifferentDown(createSection(이호선, 선릉역, 강남역, 3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("긴 노선도 상행 종점부터 순서대로 반환한다.")
+    void getStationsOfLongLine() {
+        // given
+        // 상행 종점 앞과 하행 종점 뒤에 번갈아 붙여, 추가한 순서가 아닌 자리 순서로만 올바르게 정렬되게 한다.
+        Station upStation = 강남역;
+        Station downStation = 선릉역;
+        for (long id = 10; id < 1_000; id++) {
+            Station station = createStation(id, "역" + id);
+            if (id % 2 == 0) {
+                이호선.addSection(createSection(이호선, downStation, station, 1));
+                downStation = station;
+            } else {
+                이호선.addSection(createSection(이호선, station, upStation, 1));
+                upStation = station;
+            }
+        }
+
+        // when
+        List<Station> stations = sections.getStations(upStation);
+
+        // then
+        assertThat(stations).hasSize(992);
+        assertThat(stations.get(0).getId()).isEqualTo(999L);
+        assertThat(stations.get(494).getId()).isEqualTo(11L);
+        assertThat(stations.get(495)).isEqualTo(강남역);
+        assertThat(stations.get(496)).isEqualTo(선릉역);
+        assertThat(stations.get(497).getId()).isEqualTo(10L);
+        assertThat(stations.get(991).getId()).isEqualTo(998L);
+    }
+}
@@ -0,0 +1,40 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("기준역 A* 탐색 단위 테스트")
+class AStarTest extends PathSearchTest {
+    @Test
+    @DisplayName("기준역까지의 거리로 구한 하한은 실제 최단 거리를 넘지 않는다.")
+    void lowerBound() {
+        // given
+        Landmarks landmarks = Landmarks.select(graph, 2);
+
+        // when
+        int bound = landmarks.lowerBound(index(서초역), index(양재역));
+
+        // then
+        assertThat(landmarks.count()).isEqualTo(2);
+        assertThat(bound).isBetween(0, 15);
+    }
+
+    @Test
+    @DisplayName("다익스트라와 같은 최단 경로를 찾는다.")
+    void find() {
+        // when
+        ShortestPath path = new AStar(graph).find(index(서초역), index(양재역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(path.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 역은 찾지 못한다.")
+    void notFound() {
+        assertThat(new AStar(graph).find(index(강남역), index(운정역))).isNull();
+    }
+}
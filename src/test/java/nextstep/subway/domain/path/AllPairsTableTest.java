@@ -0,0 +1,44 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("모든 역 쌍 최단 경로 표 단위 테스트")
+class AllPairsTableTest extends PathSearchTest {
+    @Test
+    @DisplayName("표에서 다음 역을 따라가 최단 경로를 반환한다.")
+    void find() {
+        // given
+        AllPairsTable table = AllPairsTable.buildWithin(graph, Long.MAX_VALUE);
+
+        // when
+        ShortestPath path = table.find(index(서초역), index(양재역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(path.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 역은 찾지 못한다.")
+    void notFound() {
+        // given
+        AllPairsTable table = AllPairsTable.buildWithin(graph, Long.MAX_VALUE);
+
+        // then
+        assertThat(table.find(index(강남역), index(운정역))).isNull();
+    }
+
+    @Test
+    @DisplayName("표가 주어진 메모리 크기를 넘으면 만들지 않는다.")
+    void overBudget() {
+        // given
+        long requiredBytes = AllPairsTable.requiredBytes(graph);
+
+        // then
+        assertThat(AllPairsTable.buildWithin(graph, requiredBytes - 1)).isNull();
+        assertThat(AllPairsTable.buildWithin(graph, requiredBytes)).isNotNull();
+    }
+}
@@ -0,0 +1,37 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("양방향 다익스트라 단위 테스트")
+class BidirectionalDijkstraTest extends PathSearchTest {
+    @Test
+    @DisplayName("단방향 다익스트라와 같은 최단 경로를 찾는다.")
+    void find() {
+        // when
+        ShortestPath path = new BidirectionalDijkstra(graph).find(index(서초역), index(양재역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(path.getDistance()).isEqualTo(new Dijkstra(graph).find(index(서초역), index(양재역)).getDistance());
+    }
+
+    @Test
+    @DisplayName("바로 이어진 두 역의 경로를 찾는다.")
+    void findAdjacent() {
+        // when
+        ShortestPath path = new BidirectionalDijkstra(graph).find(index(용산역), index(운정역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(용산역), index(운정역));
+        assertThat(path.getDistance()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 역은 찾지 못한다.")
+    void notFound() {
+        assertThat(new BidirectionalDijkstra(graph).find(index(강남역), index(운정역))).isNull();
+    }
+}
@@ -0,0 +1,48 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("구간 묶음 그래프 탐색 단위 테스트")
+class ChainContractionTest extends PathSearchTest {
+    @Test
+    @DisplayName("환승역과 종점만 남기고, 같은 역으로 돌아오는 묶음은 한 역을 더 남겨 둘로 나눈다.")
+    void contract() {
+        // when
+        ChainContraction contraction = new ChainContraction(graph);
+
+        // then
+        assertThat(contraction.coreSize()).isEqualTo(5);
+        assertThat(contraction.chainCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("묶음 중간의 도착역까지 묶음을 펼쳐 최단 경로를 반환한다.")
+    void find() {
+        // when
+        ShortestPath path = new ChainContraction(graph).find(index(서초역), index(양재역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(path.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("출발역과 도착역이 모두 묶음 중간에 있어도 최단 경로를 찾는다.")
+    void findBetweenInteriorStations() {
+        // when
+        ShortestPath path = new ChainContraction(graph).find(index(강남역), index(매봉역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(강남역), index(교대역), index(매봉역));
+        assertThat(path.getDistance()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 역은 찾지 못한다.")
+    void notFound() {
+        assertThat(new ChainContraction(graph).find(index(강남역), index(운정역))).isNull();
+    }
+}
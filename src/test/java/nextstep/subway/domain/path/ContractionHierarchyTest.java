@@ -0,0 +1,64 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("축약 계층 단위 테스트")
+class ContractionHierarchyTest extends PathSearchTest {
+    @Test
+    @DisplayName("지름길을 펼쳐 중간의 모든 역을 포함한 최단 경로를 반환한다.")
+    void find() {
+        // when
+        ShortestPath path = new ContractionHierarchy(graph).find(index(서초역), index(양재역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(path.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("반대 방향으로도 같은 경로를 찾는다.")
+    void findReverse() {
+        // when
+        ShortestPath path = new ContractionHierarchy(graph).find(index(양재역), index(서초역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(양재역), index(매봉역), index(교대역), index(서초역));
+        assertThat(path.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 역은 찾지 못한다.")
+    void notFound() {
+        assertThat(new ContractionHierarchy(graph).find(index(강남역), index(운정역))).isNull();
+    }
+
+    @Test
+    @DisplayName("출발역과 도착역의 버킷을 만나게 해 거리 표를 만든다.")
+    void distanceTable() {
+        // given
+        ContractionHierarchy hierarchy = new ContractionHierarchy(graph);
+        int[] sources = {index(강남역), index(교대역)};
+        int[] targets = {index(서초역), index(양재역), index(운정역)};
+
+        // when
+        int[] table = hierarchy.distanceTable(sources, targets);
+
+        // then
+        assertThat(table).containsExactly(10, 10, ShortestPathSearch.UNREACHABLE, 4, 11, ShortestPathSearch.UNREACHABLE);
+    }
+
+    @Test
+    @DisplayName("전처리 시간과 색인 크기를 알려준다.")
+    void summary() {
+        // when
+        ContractionHierarchy hierarchy = new ContractionHierarchy(graph);
+
+        // then
+        assertThat(hierarchy.preprocessingMillis()).isNotNegative();
+        assertThat(hierarchy.indexBytes()).isPositive();
+        assertThat(hierarchy.summary()).contains("shortcuts=" + hierarchy.shortcutCount());
+    }
+}
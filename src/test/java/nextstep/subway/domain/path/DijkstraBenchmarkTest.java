@@ -0,0 +1,81 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 이진 힙과 버킷 큐의 탐색 시간을 비교한다.
+ * 시간을 재는 테스트라 test 에서는 빼고, ./gradlew benchmark 로 따로 돌린다.
+ */
+@Tag("benchmark")
+@DisplayName("다익스트라 우선순위 큐 벤치마크")
+class DijkstraBenchmarkTest {
+    private static final long SEED = 20_211_005L;
+    private static final int MAX_DISTANCE = 10;
+    private static final int QUERY_COUNT = 2_000;
+    private static final int WARM_UP_ROUNDS = 5;
+
+    @Test
+    @DisplayName("역 600개 노선도에서 버킷 큐와 이진 힙의 질의당 탐색 시간")
+    void smallNetwork() {
+        compare(RandomSubwayNetwork.create(SEED, 20, 30, MAX_DISTANCE));
+    }
+
+    @Test
+    @DisplayName("역 10,000개 노선도에서 버킷 큐와 이진 힙의 질의당 탐색 시간")
+    void largeNetwork() {
+        compare(RandomSubwayNetwork.create(SEED, 100, 100, MAX_DISTANCE));
+    }
+
+    private void compare(SubwayGraph graph) {
+        int[][] queries = randomQueries(graph.size());
+
+        // 워밍업이 끝난 뒤 한 번 더 돌린 시간을 잰다.
+        long heapDistance = 0;
+        long bucketDistance = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            heapDistance = run(Dijkstra.withBinaryHeap(graph), queries);
+            bucketDistance = run(Dijkstra.withBucketQueue(graph), queries);
+        }
+        double heapMicros = measure(graph, Dijkstra::withBinaryHeap, queries);
+        double bucketMicros = measure(graph, Dijkstra::withBucketQueue, queries);
+
+        System.out.printf("stations=%d, edges=%d: heap %.1f us/query, buckets %.1f us/query%n",
+                graph.size(), graph.edgeSize(), heapMicros, bucketMicros);
+        assertThat(bucketDistance).isEqualTo(heapDistance);
+    }
+
+    private double measure(SubwayGraph graph, Function<SubwayGraph, Dijkstra> engine, int[][] queries) {
+        Dijkstra dijkstra = engine.apply(graph);
+        long start = System.nanoTime();
+        run(dijkstra, queries);
+        return (System.nanoTime() - start) / 1_000.0 / queries.length;
+    }
+
+    /* 최적화로 탐색이 사라지지 않도록 찾은 거리의 합을 돌려준다. */
+    private long run(Dijkstra dijkstra, int[][] queries) {
+        long total = 0;
+        for (int[] query : queries) {
+            ShortestPath path = dijkstra.find(query[0], query[1]);
+            if (path != null) {
+                total += path.getDistance();
+            }
+        }
+        return total;
+    }
+
+    private int[][] randomQueries(int stationSize) {
+        Random random = new Random(SEED);
+        int[][] queries = new int[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new int[]{random.nextInt(stationSize), random.nextInt(stationSize)};
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,63 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("정수 배열 그래프 다익스트라 단위 테스트")
+class DijkstraTest extends PathSearchTest {
+    @Test
+    @DisplayName("구간은 양방향 간선으로 저장된다.")
+    void build() {
+        assertThat(graph.size()).isEqualTo(7);
+        assertThat(graph.edgeSize()).isEqualTo(12);
+        assertThat(graph.stationAt(graph.indexOf(서초역.getId()))).isSameAs(서초역);
+        assertThat(graph.indexOf(100L)).isEqualTo(SubwayGraph.NO_STATION);
+    }
+
+    @Test
+    @DisplayName("최단 경로의 역 인덱스와 거리를 반환한다.")
+    void find() {
+        // when
+        ShortestPath path = new Dijkstra(graph).find(index(서초역), index(양재역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(path.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 탐색 상태를 재사용해도 이전 탐색의 결과가 섞이지 않는다.")
+    void reuseSearchState() {
+        // given
+        Dijkstra dijkstra = new Dijkstra(graph);
+        dijkstra.find(index(서초역), index(양재역));
+
+        // when
+        ShortestPath path = dijkstra.find(index(강남역), index(매봉역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(강남역), index(교대역), index(매봉역));
+        assertThat(path.getDistance()).isEqualTo(13);
+        assertThat(dijkstra.find(index(용산역), index(운정역)).getDistance()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("버킷 큐로 탐색해도 이진 힙과 같은 경로를 찾는다.")
+    void bucketQueue() {
+        // when
+        ShortestPath heapPath = Dijkstra.withBinaryHeap(graph).find(index(서초역), index(양재역));
+        ShortestPath bucketPath = Dijkstra.withBucketQueue(graph).find(index(서초역), index(양재역));
+
+        // then
+        assertThat(bucketPath.getStations()).containsExactly(heapPath.getStations());
+        assertThat(bucketPath.getDistance()).isEqualTo(heapPath.getDistance());
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 역은 찾지 못한다.")
+    void notFound() {
+        assertThat(new Dijkstra(graph).find(index(강남역), index(용산역))).isNull();
+    }
+}
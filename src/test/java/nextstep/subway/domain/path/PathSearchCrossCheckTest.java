@@ -0,0 +1,144 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static nextstep.subway.domain.path.ShortestPathSearch.NOT_SUPPORTED;
+import static nextstep.subway.domain.path.ShortestPathSearch.UNREACHABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 무작위 노선도에서 모든 탐색기의 결과를 다익스트라와 비교한다. */
+@DisplayName("탐색기 교차 검증 테스트")
+class PathSearchCrossCheckTest {
+    private static final long[] SEEDS = {1L, 42L, 20_211_008L};
+    private static final int ROWS = 15;
+    private static final int COLUMNS = 20;
+    private static final int MAX_DISTANCE = 10;
+    private static final int QUERY_COUNT = 300;
+    private static final int TARGET_COUNT = 8;
+
+    @Test
+    @DisplayName("모든 탐색 방식이 다익스트라와 같은 거리의 올바른 경로를 찾는다.")
+    void find() {
+        for (long seed : SEEDS) {
+            // given
+            SubwayGraph graph = RandomSubwayNetwork.create(seed, ROWS, COLUMNS, MAX_DISTANCE);
+            Dijkstra dijkstra = Dijkstra.withBinaryHeap(graph);
+            List<ShortestPathSearch> searches = searchesOf(graph);
+            Random random = new Random(seed);
+
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                int source = random.nextInt(graph.size());
+                int target = random.nextInt(graph.size());
+                ShortestPath expected = dijkstra.find(source, target);
+
+                for (ShortestPathSearch search : searches) {
+                    // when
+                    ShortestPath path = search.find(source, target);
+
+                    // then
+                    assertSamePath(graph, search, source, target, expected, path);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 도착역을 한꺼번에 찾아도 다익스트라와 같은 거리를 반환한다.")
+    void findAll() {
+        for (long seed : SEEDS) {
+            // given
+            SubwayGraph graph = RandomSubwayNetwork.create(seed, ROWS, COLUMNS, MAX_DISTANCE);
+            Dijkstra dijkstra = Dijkstra.withBinaryHeap(graph);
+            List<ShortestPathSearch> searches = searchesOf(graph);
+            Random random = new Random(seed);
+
+            for (int i = 0; i < QUERY_COUNT / TARGET_COUNT; i++) {
+                int source = random.nextInt(graph.size());
+                int[] targets = randomStations(random, graph.size());
+                int[] sources = randomStations(random, graph.size());
+
+                for (ShortestPathSearch search : searches) {
+                    // when
+                    ShortestPath[] paths = search.findAll(source, targets);
+                    int[] table = search.distanceTable(sources, targets);
+
+                    // then
+                    for (int t = 0; t < targets.length; t++) {
+                        assertSamePath(graph, search, source, targets[t], dijkstra.find(source, targets[t]), paths[t]);
+                    }
+                    if (table != NOT_SUPPORTED) {
+                        assertSameTable(dijkstra, search, sources, targets, table);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<ShortestPathSearch> searchesOf(SubwayGraph graph) {
+        List<ShortestPathSearch> searches = new ArrayList<>();
+        for (SearchMode mode : SearchMode.values()) {
+            searches.add(mode.create(graph));
+        }
+        searches.add(Dijkstra.withBucketQueue(graph));
+        searches.add(AllPairsTable.buildWithin(graph, Long.MAX_VALUE));
+        return searches;
+    }
+
+    private void assertSamePath(SubwayGraph graph, ShortestPathSearch search, int source, int target,
+                                ShortestPath expected, ShortestPath path) {
+        String description = search.summary() + " " + source + " -> " + target;
+        if (expected == null) {
+            assertThat(path).as(description).isNull();
+            return;
+        }
+
+        assertThat(path).as(description).isNotNull();
+        assertThat(path.getDistance()).as(description).isEqualTo(expected.getDistance());
+
+        int[] stations = path.getStations();
+        assertThat(stations[0]).as(description).isEqualTo(source);
+        assertThat(stations[stations.length - 1]).as(description).isEqualTo(target);
+        int distance = 0;
+        for (int i = 0; i + 1 < stations.length; i++) {
+            distance += sectionDistance(graph, stations[i], stations[i + 1]);
+        }
+        assertThat(distance).as(description).isEqualTo(path.getDistance());
+    }
+
+    private void assertSameTable(Dijkstra dijkstra, ShortestPathSearch search, int[] sources, int[] targets, int[] table) {
+        for (int s = 0; s < sources.length; s++) {
+            for (int t = 0; t < targets.length; t++) {
+                ShortestPath expected = dijkstra.find(sources[s], targets[t]);
+                int expectedDistance = expected == null ? UNREACHABLE : expected.getDistance();
+                assertThat(table[s * targets.length + t])
+                        .as(search.summary() + " table " + sources[s] + " -> " + targets[t])
+                        .isEqualTo(expectedDistance);
+            }
+        }
+    }
+
+    /* 두 역을 잇는 가장 짧은 구간의 거리, 이어진 구간이 없으면 경로가 틀린 것이다. */
+    private int sectionDistance(SubwayGraph graph, int station, int next) {
+        int distance = UNREACHABLE;
+        for (int edge = graph.offsets[station]; edge < graph.offsets[station + 1]; edge++) {
+            if (graph.neighbours[edge] == next) {
+                distance = Math.min(distance, graph.weights[edge]);
+            }
+        }
+        assertThat(distance).as(station + " - " + next + " 구간").isNotEqualTo(UNREACHABLE);
+        return distance;
+    }
+
+    private int[] randomStations(Random random, int stationSize) {
+        int[] stations = new int[TARGET_COUNT];
+        for (int i = 0; i < TARGET_COUNT; i++) {
+            stations[i] = random.nextInt(stationSize);
+        }
+        return stations;
+    }
+}
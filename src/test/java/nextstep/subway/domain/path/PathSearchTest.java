@@ -0,0 +1,51 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+
+/*
+ * 경로 탐색 단위 테스트가 함께 쓰는 노선도
+ *
+ * (강남역) -6- (교대역) -4- (서초역)
+ * |           |
+ * 10          7
+ * |           |
+ * (양재역) -4- (매봉역)        (용산역) -30- (운정역)
+ */
+abstract class PathSearchTest {
+    Station 강남역;
+    Station 교대역;
+    Station 서초역;
+    Station 양재역;
+    Station 매봉역;
+    Station 용산역;
+    Station 운정역;
+
+    SubwayGraph graph;
+
+    @BeforeEach
+    void setUpNetwork() {
+        강남역 = createStation(1L, "강남역");
+        교대역 = createStation(2L, "교대역");
+        서초역 = createStation(3L, "서초역");
+        양재역 = createStation(4L, "양재역");
+        매봉역 = createStation(5L, "매봉역");
+        용산역 = createStation(6L, "용산역");
+        운정역 = createStation(7L, "운정역");
+
+        graph = new GraphBuilder()
+                .addSection(강남역, 교대역, 6)
+                .addSection(교대역, 서초역, 4)
+                .addSection(교대역, 매봉역, 7)
+                .addSection(강남역, 양재역, 10)
+                .addSection(양재역, 매봉역, 4)
+                .addSection(용산역, 운정역, 30)
+                .build();
+    }
+
+    int index(Station station) {
+        return graph.indexOf(station.getId());
+    }
+}
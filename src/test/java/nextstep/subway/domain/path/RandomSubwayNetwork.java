@@ -0,0 +1,61 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.SectionEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * 격자 위에 노선을 깐 임의의 노선도
+ * 가로줄마다 노선 하나를, 세 칸마다 세로 노선 하나를 깔고, 가로 노선 일부는 중간에서 끊는다.
+ * 시드가 같으면 같은 노선도를 만든다.
+ */
+class RandomSubwayNetwork {
+    private static final int VERTICAL_LINE_INTERVAL = 3;
+    private static final int BROKEN_LINE_PERCENT = 20;
+
+    private RandomSubwayNetwork() {
+    }
+
+    static SubwayGraph create(long seed, int rows, int columns, int maxDistance) {
+        Random random = new Random(seed);
+        GraphBuilder builder = new GraphBuilder();
+        long lineId = 1;
+
+        for (int row = 0; row < rows; row++) {
+            int brokenColumn = random.nextInt(100) < BROKEN_LINE_PERCENT ? random.nextInt(columns) : -1;
+            List<SectionEdge> edges = new ArrayList<>();
+            for (int column = 0; column + 1 < columns; column++) {
+                if (column == brokenColumn) {
+                    builder.addLineEdges(edges);
+                    edges = new ArrayList<>();
+                    lineId++;
+                    continue;
+                }
+                edges.add(edge(lineId, stationId(row, column, columns), stationId(row, column + 1, columns), random, maxDistance));
+            }
+            builder.addLineEdges(edges);
+            lineId++;
+        }
+
+        for (int column = 0; column < columns; column += VERTICAL_LINE_INTERVAL) {
+            List<SectionEdge> edges = new ArrayList<>();
+            for (int row = 0; row + 1 < rows; row++) {
+                edges.add(edge(lineId, stationId(row, column, columns), stationId(row + 1, column, columns), random, maxDistance));
+            }
+            builder.addLineEdges(edges);
+            lineId++;
+        }
+        return builder.build();
+    }
+
+    private static long stationId(int row, int column, int columns) {
+        return (long) row * columns + column + 1;
+    }
+
+    private static SectionEdge edge(long lineId, long upStationId, long downStationId, Random random, int maxDistance) {
+        return new SectionEdge(lineId, upStationId, upStationId + "역", downStationId, downStationId + "역",
+                random.nextInt(maxDistance) + 1);
+    }
+}
@@ -0,0 +1,77 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static nextstep.subway.domain.factory.EntityFactory.createSection;
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("같은 노선 경로 단위 테스트")
+class SameLineShortcutTest {
+    private Station 강남역;
+    private Station 교대역;
+    private Station 서초역;
+    private Station 양재역;
+    private Station 매봉역;
+
+    private SubwayGraph graph;
+    private SameLineShortcut shortcut;
+
+    /**
+     * 2호선 : (강남역) -6- (교대역) -4- (서초역)
+     * 3호선 : (교대역) -7- (매봉역) -4- (양재역) -10- (강남역)
+     */
+    @BeforeEach
+    void init() {
+        강남역 = createStation(1L, "강남역");
+        교대역 = createStation(2L, "교대역");
+        서초역 = createStation(3L, "서초역");
+        양재역 = createStation(4L, "양재역");
+        매봉역 = createStation(5L, "매봉역");
+
+        graph = new GraphBuilder()
+                .addLine(Arrays.asList(
+                        createSection(null, 강남역, 교대역, 6),
+                        createSection(null, 교대역, 서초역, 4)))
+                .addLine(Arrays.asList(
+                        createSection(null, 교대역, 매봉역, 7),
+                        createSection(null, 매봉역, 양재역, 4),
+                        createSection(null, 양재역, 강남역, 10)))
+                .build();
+        shortcut = new SameLineShortcut(graph, new Dijkstra(graph));
+    }
+
+    @Test
+    @DisplayName("노선을 따라가는 길이 최단 경로이면 누적 거리로 바로 반환한다.")
+    void find() {
+        // when
+        ShortestPath path = shortcut.find(index(서초역), index(강남역));
+
+        // then
+        assertThat(path.getStations()).containsExactly(index(서초역), index(교대역), index(강남역));
+        assertThat(path.getDistance()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("다른 노선으로 가는 길이 더 짧으면 반환하지 않는다.")
+    void notShortest() {
+        // 매봉역 -> 양재역 -> 강남역 (14) 보다 매봉역 -> 교대역 -> 강남역 (13) 이 짧다.
+        assertThat(shortcut.find(index(매봉역), index(강남역))).isNull();
+        assertThat(shortcut.find(index(교대역), index(양재역)).getDistance()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("같은 노선에 있지 않으면 반환하지 않는다.")
+    void notSameLine() {
+        assertThat(shortcut.find(index(서초역), index(양재역))).isNull();
+    }
+
+    private int index(Station station) {
+        return graph.indexOf(station.getId());
+    }
+}
@@ -0,0 +1,63 @@
+package nextstep.subway.domain.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("최단 경로 트리 보관소 단위 테스트")
+class ShortestPathTreeCacheTest extends PathSearchTest {
+    @Test
+    @DisplayName("트리의 뿌리 역에서 나가는 경로와 뿌리 역으로 들어오는 경로를 읽는다.")
+    void treePaths() {
+        // given
+        ShortestPathTree tree = new Dijkstra(graph).treeFrom(index(서초역));
+
+        // when
+        ShortestPath outbound = tree.pathTo(index(양재역));
+        ShortestPath inbound = tree.pathFrom(index(양재역));
+
+        // then
+        assertThat(outbound.getStations()).containsExactly(index(서초역), index(교대역), index(매봉역), index(양재역));
+        assertThat(inbound.getStations()).containsExactly(index(양재역), index(매봉역), index(교대역), index(서초역));
+        assertThat(outbound.getDistance()).isEqualTo(15);
+        assertThat(inbound.getDistance()).isEqualTo(15);
+        assertThat(tree.pathTo(index(운정역))).isNull();
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래 쓰이지 않은 트리부터 내보낸다.")
+    void evictLeastRecentlyUsed() {
+        // given
+        Dijkstra dijkstra = new Dijkstra(graph);
+        ShortestPathTree 강남역_트리 = dijkstra.treeFrom(index(강남역));
+        ShortestPathTree 교대역_트리 = dijkstra.treeFrom(index(교대역));
+        ShortestPathTree 서초역_트리 = dijkstra.treeFrom(index(서초역));
+        ShortestPathTreeCache cache = new ShortestPathTreeCache(강남역_트리.bytes() * 2);
+        cache.put(강남역_트리);
+        cache.put(교대역_트리);
+
+        // when
+        cache.get(index(강남역));
+        cache.put(서초역_트리);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(index(강남역))).isSameAs(강남역_트리);
+        assertThat(cache.get(index(교대역))).isNull();
+        assertThat(cache.get(index(서초역))).isSameAs(서초역_트리);
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 트리를 보관하지 않는다.")
+    void disabled() {
+        // given
+        ShortestPathTreeCache cache = new ShortestPathTreeCache(0);
+
+        // when
+        cache.put(new Dijkstra(graph).treeFrom(index(강남역)));
+
+        // then
+        assertThat(cache.get(index(강남역))).isNull();
+    }
+}
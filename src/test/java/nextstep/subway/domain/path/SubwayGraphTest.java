@@ -0,0 +1,31 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static nextstep.subway.domain.factory.EntityFactory.createStation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 그래프 단위 테스트")
+class SubwayGraphTest extends PathSearchTest {
+    @Test
+    @DisplayName("같은 연결 요소에 있는 역끼리만 이어져 있다.")
+    void isConnected() {
+        // then
+        assertThat(graph.isConnected(index(서초역), index(양재역))).isTrue();
+        assertThat(graph.isConnected(index(용산역), index(운정역))).isTrue();
+        assertThat(graph.isConnected(index(강남역), index(운정역))).isFalse();
+    }
+
+    @Test
+    @DisplayName("어느 구간에도 없는 역은 그래프에 없다.")
+    void notContains() {
+        // given
+        Station 신촌역 = createStation(8L, "신촌역");
+
+        // then
+        assertThat(graph.contains(신촌역.getId())).isFalse();
+        assertThat(graph.indexOf(신촌역.getId())).isEqualTo(SubwayGraph.NO_STATION);
+    }
+}
@@ -1,14 +1,19 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import nextstep.subway.applicaion.StationRegistry;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.PersistenceContext;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,8 +22,11 @@ import java.util.stream.Collectors;
 public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
+    @Autowired
+    private StationRegistry stationRegistry;
 
     private List<String> tableNames;
+    private List<String> identityTableNames;
 
     @Override
     public void afterPropertiesSet() {
@@ -26,6 +34,18 @@ public class DatabaseCleanup implements InitializingBean {
                 .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
                 .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
                 .collect(Collectors.toList());
+        // 시퀀스로 id 를 받는 테이블은 id 컬럼을 되돌릴 수 없다.
+        identityTableNames = entityManager.getMetamodel().getEntities().stream()
+                .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
+                .filter(e -> hasIdentityId(e.getJavaType()))
+                .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean hasIdentityId(Class<?> entityType) {
+        return Arrays.stream(entityType.getDeclaredFields())
+                .map(field -> field.getAnnotation(GeneratedValue.class))
+                .anyMatch(generatedValue -> generatedValue != null && generatedValue.strategy() == GenerationType.IDENTITY);
     }
 
     @Transactional
@@ -35,9 +55,14 @@ public class DatabaseCleanup implements InitializingBean {
 
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
+        }
+        for (String tableName : identityTableNames) {
             entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        // id 를 1부터 다시 매기므로, 지운 역이 새로 만든 역의 id 로 찾아지지 않게 등록부도 비운다.
+        stationRegistry.clear();
     }
 }
\ No newline at end of file